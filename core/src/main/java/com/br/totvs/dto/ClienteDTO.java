@@ -4,7 +4,6 @@ import com.br.totvs.dto.interfaces.EntityDTO;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
-import lombok.Data;
 import org.hibernate.validator.constraints.Length;
 
 import java.util.List;
@@ -0,0 +1,24 @@
+package com.br.totvs.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Classe que representa o objeto de resposta de erro.
+ * Nos erros de validação, {@code errors} traz um item por campo inválido; nos demais erros ele não é serializado.
+ */
+public record ErrorResponseDTO(
+        LocalDateTime timestamp,
+        int status,
+        String error,
+        String message,
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        List<FieldErrorDTO> errors
+) {
+
+    public ErrorResponseDTO(LocalDateTime timestamp, int status, String error, String message) {
+        this(timestamp, status, error, message, List.of());
+    }
+}
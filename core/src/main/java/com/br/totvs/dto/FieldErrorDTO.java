@@ -0,0 +1,12 @@
+package com.br.totvs.dto;
+
+/**
+ * Classe que representa o erro de validação de um campo.
+ *
+ * @param field   o caminho do campo (ex.: {@code telefoneClienteList[0].numero})
+ * @param message a mensagem de erro
+ */
+public record FieldErrorDTO(
+        String field,
+        String message
+) {}
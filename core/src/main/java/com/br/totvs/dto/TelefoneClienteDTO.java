@@ -0,0 +1,44 @@
+package com.br.totvs.dto;
+
+import com.br.totvs.dto.interfaces.EntityDTO;
+import com.br.totvs.dto.validation.Telefone;
+import com.br.totvs.util.Util;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Classe para representação de telefone do cliente
+ * para operações de api rest
+ * <p>
+ * A chave numérica do número é calculada uma única vez, na criação do DTO, e reaproveitada pela validação
+ * ({@link Telefone}) e pelo serviço; ela não trafega no corpo.
+ */
+@Telefone(message = "pattern.telefone")
+public record TelefoneClienteDTO(
+        Long id,
+        @NotNull(message = "notNull.telefone")
+        String numero,
+        @JsonIgnore
+        Long numeroChave
+
+) implements EntityDTO {
+
+    /**
+     * Cria o DTO calculando a chave numérica do número ({@link Util#parsePhone(CharSequence)}),
+     * que é {@link Util#INVALID_PHONE} quando o formato é inválido e null quando o número não foi informado.
+     *
+     * @param id     o id do telefone
+     * @param numero o número do telefone
+     */
+    @JsonCreator
+    public TelefoneClienteDTO(@JsonProperty("id") Long id, @JsonProperty("numero") String numero) {
+        this(id, numero, numero == null ? null : Util.parsePhone(numero));
+    }
+
+    @Override
+    public Long getId() {
+        return this.id;
+    }
+}
@@ -0,0 +1,30 @@
+package com.br.totvs.dto.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Valida o formato de um telefone com {@link com.br.totvs.util.Util#parsePhone(CharSequence)}.
+ * Valores nulos são considerados válidos (use {@code @NotNull} em conjunto).
+ * Aplicada a um {@link com.br.totvs.dto.TelefoneClienteDTO}, confere a chave já calculada em vez do texto.
+ *
+ * @author guilherme-oliveria
+ */
+@Documented
+@Constraint(validatedBy = {TelefoneValidator.class, TelefoneClienteValidator.class})
+@Target({ElementType.TYPE, ElementType.FIELD, ElementType.PARAMETER, ElementType.RECORD_COMPONENT, ElementType.TYPE_USE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Telefone {
+
+    String message() default "pattern.telefone";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
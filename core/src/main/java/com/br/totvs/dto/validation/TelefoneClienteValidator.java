@@ -0,0 +1,27 @@
+package com.br.totvs.dto.validation;
+
+import com.br.totvs.dto.TelefoneClienteDTO;
+import com.br.totvs.util.Util;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validador da restrição {@link Telefone} aplicada a um {@link TelefoneClienteDTO}: confere a chave numérica
+ * já calculada na criação do DTO, sem ler o número novamente. A violação é reportada no campo {@code numero}.
+ *
+ * @author guilherme-oliveria
+ */
+public class TelefoneClienteValidator implements ConstraintValidator<Telefone, TelefoneClienteDTO> {
+
+    @Override
+    public boolean isValid(TelefoneClienteDTO value, ConstraintValidatorContext context) {
+        if (value == null || value.numeroChave() == null || value.numeroChave() != Util.INVALID_PHONE) {
+            return true;
+        }
+        context.disableDefaultConstraintViolation();
+        context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+                .addPropertyNode("numero")
+                .addConstraintViolation();
+        return false;
+    }
+}
@@ -0,0 +1,18 @@
+package com.br.totvs.dto.validation;
+
+import com.br.totvs.util.Util;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validador da restrição {@link Telefone}.
+ *
+ * @author guilherme-oliveria
+ */
+public class TelefoneValidator implements ConstraintValidator<Telefone, CharSequence> {
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || Util.parsePhone(value) != Util.INVALID_PHONE;
+    }
+}
@@ -5,12 +5,14 @@ import org.springframework.http.HttpStatus;
 /**
  * Classe para representação de exceções customizadas
  * extends {@link RuntimeException}
+ * Sem causa, representa um resultado esperado (ex.: 404) e não captura a pilha de chamadas;
+ * com causa, mantém a pilha para o diagnóstico da falha.
  */
 public class CustomException extends RuntimeException {
     private final HttpStatus errorCode;
 
     public CustomException(HttpStatus errorCode, String detailMessage) {
-        super(detailMessage);
+        super(detailMessage, null, false, false);
         this.errorCode = errorCode;
     }
 
@@ -5,16 +5,16 @@ import org.springframework.http.HttpStatus;
 /**
  * Classe para representação de exceções de campos inválidos
  * extends {@link RuntimeException}
+ * Representa um resultado esperado da validação, por isso não captura a pilha de chamadas.
  */
 public class InvalidFieldException extends RuntimeException {
     private final HttpStatus errorCode;
 
     public InvalidFieldException(HttpStatus errorCode, String detailMessage) {
-        super(detailMessage);
+        super(detailMessage, null, false, false);
         this.errorCode = errorCode;
     }
 
-
     public HttpStatus getErrorCode() {
         return errorCode;
     }
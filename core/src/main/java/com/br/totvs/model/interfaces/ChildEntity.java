@@ -3,6 +3,8 @@ package com.br.totvs.model.interfaces;
 /**
  * Esta interface define um contrato para entidades que são filhas de uma entidade pai.
  * Ela inclui um método para definir a entidade pai de uma entidade filha.
+ * Nos modelos sem relacionamentos mapeados (ex.: R2DBC), a entidade filha guarda a chave estrangeira do pai,
+ * que deve ser atualizada a partir da entidade pai em {@link #setParent(Object)}.
  *
  * @param <PARENT> o tipo da entidade pai
  */
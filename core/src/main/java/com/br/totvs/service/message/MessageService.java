@@ -2,23 +2,26 @@ package com.br.totvs.service.message;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
-import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
-import java.io.StringWriter;
 import java.util.Locale;
-import java.util.Properties;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Serviço para mensagens.
+ * O padrão de cada chave é resolvido no {@link MessageSource} uma única vez e mantido pré-compilado
+ * ({@link MessageTemplate}); os argumentos numéricos são escritos sem separador de milhar.
  *
  * @author guilherme-oliveria
  */
 @Service
 public class MessageService {
 
+    private static final Locale LOCALE = new Locale("pt", "BR");
+
     private final MessageSource messageSource;
+    private final Map<String, MessageTemplate> templates = new ConcurrentHashMap<>();
 
     @Autowired
     public MessageService(MessageSource messageSource) {
@@ -33,6 +36,11 @@ public class MessageService {
      * @return a mensagem
      */
     public String getMessage(String messageKey, Object... args) {
-        return messageSource.getMessage(messageKey, args, new Locale("pt", "BR"));
+        MessageTemplate template = templates.get(messageKey);
+        if (template == null) {
+            template = templates.computeIfAbsent(messageKey,
+                    key -> MessageTemplate.compile(messageSource.getMessage(key, null, LOCALE), LOCALE));
+        }
+        return template.format(args);
     }
 }
@@ -0,0 +1,104 @@
+package com.br.totvs.service.message;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Mensagem pré-compilada a partir do seu padrão: os trechos literais e as posições dos argumentos ({@code {0}}, {@code {1}}...)
+ * são separados uma única vez, e a formatação apenas concatena os trechos com os argumentos.
+ * Padrões com outros recursos do {@link MessageFormat} (apóstrofos, formatos como {@code {0,number}}) são formatados
+ * pelo próprio {@link MessageFormat}.
+ *
+ * @author guilherme-oliveria
+ */
+final class MessageTemplate {
+
+    private final String pattern;
+    private final Locale locale;
+    private final String[] literals;
+    private final int[] arguments;
+    private final boolean messageFormat;
+
+    private MessageTemplate(String pattern, Locale locale, String[] literals, int[] arguments, boolean messageFormat) {
+        this.pattern = pattern;
+        this.locale = locale;
+        this.literals = literals;
+        this.arguments = arguments;
+        this.messageFormat = messageFormat;
+    }
+
+    /**
+     * Compila o padrão fornecido.
+     *
+     * @param pattern o padrão da mensagem
+     * @param locale  o locale da mensagem
+     * @return a mensagem compilada
+     */
+    static MessageTemplate compile(String pattern, Locale locale) {
+        if (pattern.indexOf('\'') >= 0) {
+            return new MessageTemplate(pattern, locale, null, null, true);
+        }
+        List<String> literals = new ArrayList<>();
+        List<Integer> arguments = new ArrayList<>();
+        int start = 0;
+        int open = pattern.indexOf('{');
+        while (open >= 0) {
+            int close = pattern.indexOf('}', open);
+            int argument = close < 0 ? -1 : argumentIndex(pattern, open + 1, close);
+            if (argument < 0) {
+                return new MessageTemplate(pattern, locale, null, null, true);
+            }
+            literals.add(pattern.substring(start, open));
+            arguments.add(argument);
+            start = close + 1;
+            open = pattern.indexOf('{', start);
+        }
+        literals.add(pattern.substring(start));
+        return new MessageTemplate(pattern, locale, literals.toArray(String[]::new),
+                arguments.stream().mapToInt(Integer::intValue).toArray(), false);
+    }
+
+    /**
+     * Formata a mensagem com os argumentos fornecidos.
+     * Sem argumentos o padrão é retornado sem alteração, como faz o {@code MessageSource}.
+     *
+     * @param args os argumentos
+     * @return a mensagem formatada
+     */
+    String format(Object[] args) {
+        if (args == null || args.length == 0) {
+            return pattern;
+        }
+        if (messageFormat) {
+            return new MessageFormat(pattern, locale).format(args);
+        }
+        StringBuilder message = new StringBuilder(pattern.length() + 16 * arguments.length);
+        for (int i = 0; i < arguments.length; i++) {
+            message.append(literals[i]);
+            int argument = arguments[i];
+            if (argument < args.length) {
+                message.append(args[argument]);
+            } else {
+                message.append('{').append(argument).append('}');
+            }
+        }
+        return message.append(literals[arguments.length]).toString();
+    }
+
+    private static int argumentIndex(String pattern, int from, int to) {
+        if (from == to || to - from > 2) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = from; i < to; i++) {
+            char c = pattern.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+}
@@ -0,0 +1,146 @@
+package com.br.totvs.util;
+
+import java.text.Normalizer;
+
+/**
+ * Classe utilitária para validações
+ */
+public class Util {
+
+    /**
+     * Valor retornado por {@link #parsePhone(CharSequence)} quando o telefone é inválido.
+     */
+    public static final long INVALID_PHONE = -1L;
+
+    private static final int MAX_PHONE_KEY_DIGITS = 18;
+
+    public static boolean isValidPhoneFormat(String phone) {
+        return parsePhone(phone) != INVALID_PHONE;
+    }
+
+    /**
+     * Valida o telefone fornecido e calcula a sua chave numérica em uma única passada, sem alocação.
+     * São aceitos os formatos da família "(DD) NNNNN-NNNN": DDD de dois dígitos (sem começar com 0), opcionalmente
+     * entre parênteses, seguido de 8 ou 9 dígitos, com "-" ou espaço opcionais após o DDD e antes dos 4 últimos dígitos.
+     * Assim, "(11) 91234-5678", "11-91234-5678" e "11912345678" são válidos e têm a mesma chave.
+     *
+     * @param phone o telefone
+     * @return a chave numérica (apenas os dígitos), ou {@link #INVALID_PHONE} quando o formato é inválido
+     */
+    public static long parsePhone(CharSequence phone) {
+        if (phone == null) {
+            return INVALID_PHONE;
+        }
+        int length = phone.length();
+        int i = 0;
+        if (i < length && phone.charAt(i) == '(') {
+            i++;
+        }
+        if (i + 2 > length || !isDigit(phone.charAt(i)) || phone.charAt(i) == '0' || !isDigit(phone.charAt(i + 1))) {
+            return INVALID_PHONE;
+        }
+        long key = (phone.charAt(i) - '0') * 10L + (phone.charAt(i + 1) - '0');
+        i += 2;
+        if (i < length && phone.charAt(i) == ')') {
+            i++;
+        }
+        if (i < length && isSeparator(phone.charAt(i))) {
+            i++;
+        }
+
+        int start = i;
+        while (i < length && isDigit(phone.charAt(i))) {
+            key = key * 10 + (phone.charAt(i++) - '0');
+        }
+        int prefixDigits = i - start;
+        if (i == length) {
+            return prefixDigits == 8 || prefixDigits == 9 ? key : INVALID_PHONE;
+        }
+        if ((prefixDigits != 4 && prefixDigits != 5) || !isSeparator(phone.charAt(i))) {
+            return INVALID_PHONE;
+        }
+        i++;
+
+        start = i;
+        while (i < length && isDigit(phone.charAt(i))) {
+            key = key * 10 + (phone.charAt(i++) - '0');
+        }
+        return i == length && i - start == 4 ? key : INVALID_PHONE;
+    }
+
+    /**
+     * Converte o telefone fornecido na sua chave numérica canônica, formada apenas pelos dígitos.
+     * Diferente de {@link #parsePhone(CharSequence)}, não valida o formato, e é usado nas consultas por telefone.
+     *
+     * @param phone o telefone
+     * @return a chave numérica, ou null quando o telefone não possui dígitos
+     */
+    public static Long toPhoneKey(String phone) {
+        if (phone == null) {
+            return null;
+        }
+        long key = 0;
+        int digits = 0;
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (isDigit(c)) {
+                if (++digits > MAX_PHONE_KEY_DIGITS) {
+                    return null;
+                }
+                key = key * 10 + (c - '0');
+            }
+        }
+        return digits == 0 ? null : key;
+    }
+
+    /**
+     * Recupera apenas os dígitos do texto fornecido, de modo que "(11) 9" resulta em "119".
+     *
+     * @param value o texto
+     * @return os dígitos do texto, ou null
+     */
+    public static String digitsOnly(String value) {
+        if (value == null) {
+            return null;
+        }
+        StringBuilder digits = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (isDigit(c)) {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+    /**
+     * Normaliza o texto fornecido para buscas sem distinção de maiúsculas e acentos:
+     * os acentos são removidos, as letras convertidas para minúsculas e os espaços das extremidades descartados.
+     * Assim, " João" e "JOAO" resultam em "joao".
+     *
+     * @param value o texto
+     * @return o texto normalizado, ou null
+     */
+    public static String normalizeForSearch(String value) {
+        if (value == null) {
+            return null;
+        }
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString().trim();
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '-' || c == ' ';
+    }
+}
@@ -0,0 +1,49 @@
+package com.br.totvs.dto;
+
+import com.br.totvs.util.Util;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TelefoneClienteDTOTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    public void testChaveCalculadaNaLeituraENaoSerializada() throws Exception {
+        TelefoneClienteDTO dto = objectMapper.readValue("{\"id\": 1, \"numero\": \"(62) 99090-9090\"}", TelefoneClienteDTO.class);
+
+        assertEquals(62990909090l, dto.numeroChave());
+        assertEquals("{\"id\":1,\"numero\":\"(62) 99090-9090\"}", objectMapper.writeValueAsString(dto));
+        assertTrue(validator.validate(dto).isEmpty());
+    }
+
+    @Test
+    public void testFormatoInvalidoReportadoNoNumero() {
+        ClienteDTO cliente = new ClienteDTO(null, "Cliente de Teste", null, null,
+                List.of(new TelefoneClienteDTO(null, "62990909090"), new TelefoneClienteDTO(null, "123568")));
+
+        Set<ConstraintViolation<ClienteDTO>> violations = validator.validate(cliente);
+
+        assertEquals(Util.INVALID_PHONE, cliente.telefoneClienteList().get(1).numeroChave());
+        assertEquals(1, violations.size());
+        assertEquals("telefoneClienteList[1].numero", violations.iterator().next().getPropertyPath().toString());
+    }
+
+    @Test
+    public void testNumeroNuloReportadoSomenteComoObrigatorio() {
+        Set<ConstraintViolation<TelefoneClienteDTO>> violations = validator.validate(new TelefoneClienteDTO(null, null));
+
+        assertEquals(1, violations.size());
+        assertEquals("notNull.telefone", violations.iterator().next().getMessage());
+    }
+}
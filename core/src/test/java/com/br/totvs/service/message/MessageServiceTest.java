@@ -0,0 +1,37 @@
+package com.br.totvs.service.message;
+
+import com.br.totvs.config.MessageConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MessageServiceTest {
+
+    private final MessageService messageService = new MessageService(new MessageConfig().messageSource());
+
+    @Test
+    public void testMensagemComArgumentos() {
+        assertEquals("Cliente com id 1234 não encontrado.", messageService.getMessage("error.objectNotFound", "Cliente", 1234L));
+        assertEquals("Cliente com id 7 não encontrado.", messageService.getMessage("error.objectNotFound", "Cliente", 7L));
+    }
+
+    @Test
+    public void testMensagemSemArgumentos() {
+        assertEquals("O cursor de paginação é inválido.", messageService.getMessage("error.invalidCursor"));
+    }
+
+    @Test
+    public void testPadraoComRecursosDoMessageFormat() {
+        StaticMessageSource messageSource = new StaticMessageSource();
+        Locale locale = new Locale("pt", "BR");
+        messageSource.addMessage("apostrofo", locale, "O campo ''{0}'' é inválido");
+        messageSource.addMessage("argumentoFaltando", locale, "{0} e {1}");
+        MessageService service = new MessageService(messageSource);
+
+        assertEquals("O campo 'nome' é inválido", service.getMessage("apostrofo", "nome"));
+        assertEquals("a e {1}", service.getMessage("argumentoFaltando", "a"));
+    }
+}
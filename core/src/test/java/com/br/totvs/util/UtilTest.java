@@ -0,0 +1,58 @@
+package com.br.totvs.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class UtilTest {
+
+    private static final Pattern PHONE_PATTERN = Pattern.compile("^\\(?([1-9]\\d)\\)?[- ]?(\\d{4,5})[- ]?(\\d{4})$");
+
+    @Test
+    public void testParsePhoneFormatosValidos() {
+        assertEquals(62990909090l, Util.parsePhone("62990909090"));
+        assertEquals(62990909090l, Util.parsePhone("(62) 99090-9090"));
+        assertEquals(62990909090l, Util.parsePhone("62-99090-9090"));
+        assertEquals(6290909090l, Util.parsePhone("(62)9090 9090"));
+        assertEquals(6290909090l, Util.parsePhone("6290909090"));
+    }
+
+    @Test
+    public void testParsePhoneFormatosInvalidos() {
+        assertEquals(Util.INVALID_PHONE, Util.parsePhone(null));
+        assertEquals(Util.INVALID_PHONE, Util.parsePhone(""));
+        assertEquals(Util.INVALID_PHONE, Util.parsePhone("123568"));
+        assertEquals(Util.INVALID_PHONE, Util.parsePhone("02990909090"));
+        assertEquals(Util.INVALID_PHONE, Util.parsePhone("629909090901"));
+        assertEquals(Util.INVALID_PHONE, Util.parsePhone("62 990-909090"));
+        assertEquals(Util.INVALID_PHONE, Util.parsePhone("62 99090-90901"));
+        assertEquals(Util.INVALID_PHONE, Util.parsePhone("62  99090-9090"));
+        assertEquals(Util.INVALID_PHONE, Util.parsePhone("62 99090.9090"));
+    }
+
+    @Test
+    public void testParsePhoneEquivalenteAoPadraoAnterior() {
+        String[] telefones = {"62990909090", "(62) 99090-9090", "(62 99090-9090", "62) 99090-9090", "62 9090-9090",
+                "62-9090 9090", "629090-9090", "62990909090 ", "(62) 99090--9090", "(62) 990909-090", "(06) 99090-9090",
+                "62 999090909", "62 9990909", "(62)-99090-9090", "6299090 9090", "((62) 99090-9090"};
+        for (String telefone : telefones) {
+            assertEquals(PHONE_PATTERN.matcher(telefone).matches(), Util.isValidPhoneFormat(telefone), telefone);
+        }
+    }
+
+    @Test
+    public void testNormalizeForSearch() {
+        assertEquals("jose alvares", Util.normalizeForSearch("  José Álvares "));
+        assertEquals("acao", Util.normalizeForSearch("AçÃo"));
+        assertNull(Util.normalizeForSearch(null));
+    }
+
+    @Test
+    public void testDigitsOnly() {
+        assertEquals("62990909090", Util.digitsOnly("(62) 99090-9090"));
+        assertEquals("", Util.digitsOnly("-"));
+        assertNull(Util.digitsOnly(null));
+    }
+}
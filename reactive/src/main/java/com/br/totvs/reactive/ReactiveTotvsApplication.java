@@ -0,0 +1,24 @@
+package com.br.totvs.reactive;
+
+import com.br.totvs.config.MessageConfig;
+import com.br.totvs.service.message.MessageService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Variante reativa da API de clientes, com WebFlux e R2DBC.
+ * Os DTOs, as validações, as exceções e as mensagens vêm do módulo {@code core}, compartilhado com a API servlet;
+ * as mensagens são importadas aqui porque ficam fora do pacote da aplicação.
+ *
+ * @author guilherme-oliveria
+ */
+@SpringBootApplication
+@Import({MessageConfig.class, MessageService.class})
+public class ReactiveTotvsApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveTotvsApplication.class, args);
+    }
+
+}
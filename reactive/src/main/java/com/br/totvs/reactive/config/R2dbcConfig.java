@@ -0,0 +1,38 @@
+package com.br.totvs.reactive.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Pool de conexões R2DBC, configurado pelas propriedades {@code spring.r2dbc.*}.
+ * O driver do H2 executa os comandos de forma síncrona, na thread que os assina. No pool padrão, a conexão liberada
+ * ao fim de uma transação é entregue ao próximo requisitante na mesma thread, então sob carga as transações passam
+ * a ser executadas em sequência, aninhadas, em um único event loop do Netty, que deixa de ler as suas conexões HTTP
+ * enquanto houver requisitantes na fila. Por isso as conexões são entregues em {@link Schedulers#parallel()}.
+ *
+ * @author guilherme-oliveria
+ */
+@Configuration
+public class R2dbcConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory(R2dbcProperties properties) {
+        ConnectionFactory connectionFactory = ConnectionFactoryBuilder.withUrl(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .build();
+        R2dbcProperties.Pool pool = properties.getPool();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(pool.getInitialSize())
+                .maxSize(pool.getMaxSize())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .customizer(builder -> builder.acquisitionScheduler(Schedulers.parallel()))
+                .build());
+    }
+}
@@ -0,0 +1,93 @@
+package com.br.totvs.reactive.controller;
+
+import com.br.totvs.dto.interfaces.EntityDTO;
+import com.br.totvs.mapper.EntityMapper;
+import com.br.totvs.reactive.service.GenericReactiveServiceAbstract;
+import jakarta.validation.Valid;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador abstrato reativo para operações CRUD, com o mesmo contrato do {@code AbstractController}
+ * da aplicação servlet. Nenhum método bloqueia a thread da requisição: as respostas são publicadas
+ * quando o serviço conclui a operação no banco de dados.
+ * @param <T> Entidade
+ * @param <DTO> DTO da entidade
+ * @param <SERVICE> Serviço da entidade
+ * @param <MAPPER> Mapper da entidade
+ * @param <PK> Tipo da chave primária
+ */
+public abstract class AbstractReactiveController<T, DTO extends EntityDTO, SERVICE extends GenericReactiveServiceAbstract<T, PK>, MAPPER extends EntityMapper<T, DTO>, PK> {
+
+    protected final SERVICE service;
+    protected final MAPPER mapper;
+
+    public AbstractReactiveController(SERVICE service, MAPPER mapper) {
+        this.service = service;
+        this.mapper = mapper;
+    }
+
+    /** Método para criar um registro
+     * @param dto registro a ser criado
+     * @return registro criado
+     */
+    @PostMapping
+    public Mono<ResponseEntity<DTO>> create(@Valid @RequestBody DTO dto) {
+        return service.save(mapper.toEntity(dto))
+                .map(entity -> ResponseEntity.status(HttpStatus.CREATED).body(mapper.toDto(entity)));
+    }
+
+    /**
+     * Método para atualizar um registro
+     * O identificador do caminho prevalece sobre o do corpo
+     * @param id identificador do registro
+     * @param dto registro a ser atualizado
+     * @return registro atualizado
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<DTO>> update(@PathVariable PK id, @Valid @RequestBody DTO dto) {
+        T entity = mapper.toEntity(dto);
+        service.setId(entity, id);
+        return service.update(entity).map(updated -> ResponseEntity.ok(mapper.toDto(updated)));
+    }
+
+    /**
+     * Método para deletar um registro por id
+     * @param id identificador do registro
+     * @return status da operação
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable PK id) {
+        return service.delete(id).then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+    }
+
+    /**
+     * Método para buscar um registro por id
+     * @param id identificador do registro
+     * @return registro
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<DTO>> findById(@PathVariable PK id) {
+        return service.findById(id).map(entity -> ResponseEntity.ok(mapper.toDto(entity)));
+    }
+
+    /**
+     * Método para buscar todos os registros
+     * Os registros são escritos à medida que são lidos, conforme a demanda da conexão: em NDJSON
+     * ({@code application/x-ndjson}) um registro por linha, e em JSON como um único array
+     * @return registros
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<DTO> findAll() {
+        return service.findAll().map(mapper::toDto);
+    }
+}
@@ -0,0 +1,17 @@
+package com.br.totvs.reactive.controller;
+
+import com.br.totvs.dto.ClienteDTO;
+import com.br.totvs.reactive.mapper.ClienteMapper;
+import com.br.totvs.reactive.model.Cliente;
+import com.br.totvs.reactive.service.ClienteService;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/clientes")
+public class ClienteController extends AbstractReactiveController<Cliente, ClienteDTO, ClienteService, ClienteMapper, Long> {
+
+    public ClienteController(ClienteService service, ClienteMapper mapper) {
+        super(service, mapper);
+    }
+}
@@ -0,0 +1,82 @@
+package com.br.totvs.reactive.controller.handler;
+
+import com.br.totvs.dto.ErrorResponseDTO;
+import com.br.totvs.dto.FieldErrorDTO;
+import com.br.totvs.exception.CustomException;
+import com.br.totvs.exception.InvalidFieldException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.MessageSource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Classe para tratamento de exceções
+ * {@link RestControllerAdvice}
+ */
+@RestControllerAdvice
+public class ControllerExceptionHandler {
+
+    @Autowired
+    private MessageSource messageSource;
+
+    /**
+     * Método para tratar exceções customizadas
+     * @param ex exceção
+     * @return {@link ResponseEntity} com a mensagem de erro
+     */
+    @ExceptionHandler(CustomException.class)
+    public ResponseEntity<ErrorResponseDTO> handleCustomException(CustomException ex) {
+        return error(ex.getErrorCode(), ex.getMessage());
+    }
+
+    /**
+     * Método para tratar exceções de campos inválidos
+     * @param ex exceção
+     * @param exchange requisição, usada para resolver o idioma das mensagens
+     * @return {@link ResponseEntity} com a mensagem de erro e um item por campo inválido
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponseDTO> handleWebExchangeBind(WebExchangeBindException ex, ServerWebExchange exchange) {
+        Locale locale = exchange.getLocaleContext().getLocale();
+        List<FieldErrorDTO> errors = new ArrayList<>();
+        for (FieldError error : ex.getBindingResult().getFieldErrors()) {
+            errors.add(new FieldErrorDTO(error.getField(), message(error.getDefaultMessage(), locale)));
+        }
+        errors.sort(Comparator.comparing(FieldErrorDTO::field));
+
+        ErrorResponseDTO errorResponse = new ErrorResponseDTO(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(), "Validation Error",
+                message("error.validation", locale), errors);
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Método para tratar exceções de campos inválidos
+     * @param ex exceção
+     * @return {@link ResponseEntity} com a mensagem de erro
+     */
+    @ExceptionHandler(InvalidFieldException.class)
+    public ResponseEntity<ErrorResponseDTO> handleCampoInvalidoException(InvalidFieldException ex) {
+        return error(ex.getErrorCode(), ex.getMessage());
+    }
+
+    private ResponseEntity<ErrorResponseDTO> error(HttpStatus errorCode, String message) {
+        ErrorResponseDTO errorResponse = new ErrorResponseDTO(LocalDateTime.now(), errorCode.value(), errorCode.getReasonPhrase(), message);
+        return new ResponseEntity<>(errorResponse, errorCode);
+    }
+
+    private String message(String key, Locale locale) {
+        return key == null ? null : messageSource.getMessage(key, null, key, locale == null ? Locale.getDefault() : locale);
+    }
+}
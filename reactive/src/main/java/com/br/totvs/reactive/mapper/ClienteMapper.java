@@ -0,0 +1,24 @@
+package com.br.totvs.reactive.mapper;
+
+import com.br.totvs.dto.ClienteDTO;
+import com.br.totvs.dto.TelefoneClienteDTO;
+import com.br.totvs.mapper.EntityMapper;
+import com.br.totvs.reactive.model.Cliente;
+import com.br.totvs.reactive.model.TelefoneCliente;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Mapper para cliente
+ * para conversão de DTO para entidade e vice-versa
+ * {@link Mapper}
+ */
+@Mapper(componentModel = "spring")
+public interface ClienteMapper extends EntityMapper<Cliente, ClienteDTO> {
+
+    /**
+     * A chave numérica vem do DTO, que a calcula na leitura, e o id do cliente é definido pelo serviço ({@code setParent})
+     */
+    @Mapping(target = "clienteId", ignore = true)
+    TelefoneCliente toEntity(TelefoneClienteDTO dto);
+}
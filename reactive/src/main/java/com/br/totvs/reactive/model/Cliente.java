@@ -0,0 +1,52 @@
+package com.br.totvs.reactive.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Esta classe representa a entidade Cliente no banco de dados.
+ * Ela inclui informações como id, nome, endereço, bairro e uma lista de telefones do cliente.
+ * A lista de telefones não é mapeada pelo R2DBC: ela é gravada e carregada pelo serviço.
+ *
+ * @author guilherme-oliveria
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("tb_cliente")
+public class Cliente {
+
+    @Id
+    @Column("id")
+    private Long id;
+    @Column("nome")
+    private String nome;
+    @Column("endereco")
+    private String endereco;
+    @Column("bairro")
+    private String bairro;
+    @Transient
+    private List<TelefoneCliente> telefoneClienteList;
+
+    /**
+     * Adiciona um telefone à lista de telefones do cliente.
+     *
+     * @param telefoneCliente o telefone a ser adicionado
+     */
+    public void addTelefone(TelefoneCliente telefoneCliente) {
+        if (this.telefoneClienteList == null) {
+            this.telefoneClienteList = new ArrayList<>();
+        }
+        telefoneClienteList.add(telefoneCliente);
+    }
+}
@@ -0,0 +1,43 @@
+package com.br.totvs.reactive.model;
+
+import com.br.totvs.model.interfaces.ChildEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Esta classe representa a entidade TelefoneCliente no banco de dados.
+ * Ela inclui informações como id, número do telefone e o id do cliente ao qual pertence.
+ * A classe implementa a interface ChildEntity, indicando que ela é uma entidade filha de Cliente.
+ *
+ * @author guilherme-oliveria
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("tb_telefone_cliente")
+public class TelefoneCliente implements ChildEntity<Cliente> {
+
+    @Id
+    @Column("id")
+    private Long id;
+    @Column("numero")
+    private String numero;
+    /**
+     * Chave numérica canônica do número (apenas dígitos), única entre todos os clientes.
+     */
+    @Column("numero_chave")
+    private Long numeroChave;
+    @Column("id_cliente")
+    private Long clienteId;
+
+    @Override
+    public void setParent(Cliente cliente) {
+        this.clienteId = cliente.getId();
+    }
+}
@@ -0,0 +1,12 @@
+package com.br.totvs.reactive.repository;
+
+import com.br.totvs.reactive.model.Cliente;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+@Repository
+public interface ClienteRepository extends R2dbcRepository<Cliente, Long> {
+
+    Flux<Cliente> findByNome(String nome);
+}
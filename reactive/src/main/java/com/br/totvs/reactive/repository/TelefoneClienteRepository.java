@@ -0,0 +1,14 @@
+package com.br.totvs.reactive.repository;
+
+import com.br.totvs.reactive.model.TelefoneCliente;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.util.Collection;
+
+@Repository
+public interface TelefoneClienteRepository extends R2dbcRepository<TelefoneCliente, Long> {
+
+    Flux<TelefoneCliente> findByNumeroChaveIn(Collection<Long> numerosChave);
+}
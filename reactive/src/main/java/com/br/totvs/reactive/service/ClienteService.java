@@ -0,0 +1,136 @@
+package com.br.totvs.reactive.service;
+
+import com.br.totvs.exception.InvalidFieldException;
+import com.br.totvs.reactive.model.Cliente;
+import com.br.totvs.reactive.model.TelefoneCliente;
+import com.br.totvs.reactive.repository.ClienteRepository;
+import com.br.totvs.reactive.repository.TelefoneClienteRepository;
+import com.br.totvs.reactive.service.metadata.ChildCollection;
+import com.br.totvs.service.message.MessageService;
+import com.br.totvs.util.Util;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+@Service
+public class ClienteService extends GenericReactiveServiceAbstract<Cliente, Long> {
+
+    private static final List<ChildCollection<Cliente, ?>> CHILD_COLLECTIONS = List.of(
+            new ChildCollection<>(TelefoneCliente.class, "clienteId", Cliente::getTelefoneClienteList, Cliente::setTelefoneClienteList));
+
+    private final ClienteRepository clienteRepository;
+    private final TelefoneClienteRepository telefoneClienteRepository;
+    private final MessageService messageService;
+
+    public ClienteService(ClienteRepository clienteRepository, TelefoneClienteRepository telefoneClienteRepository,
+                          R2dbcEntityTemplate template, MessageService messageService) {
+        super(clienteRepository, template, messageService);
+        this.clienteRepository = clienteRepository;
+        this.telefoneClienteRepository = telefoneClienteRepository;
+        this.messageService = messageService;
+    }
+
+    @Override
+    protected List<ChildCollection<Cliente, ?>> getChildCollections() {
+        return CHILD_COLLECTIONS;
+    }
+
+    @Override
+    public Mono<Void> validateBeforeSave(Cliente cliente) throws InvalidFieldException {
+        validateNome(cliente);
+        return validateDuplicados(cliente, validateTelefones(cliente));
+    }
+
+    @Override
+    public Mono<Void> validateBeforeUpdate(Cliente cliente) throws InvalidFieldException {
+        validateNome(cliente);
+        return validateDuplicados(cliente, validateTelefones(cliente));
+    }
+
+    /**
+     * Método para verificar se o nome é válido
+     * @param cliente entidade {@link Cliente}
+     * @throws InvalidFieldException caso ocorra erro de validação
+     */
+    public void validateNome(Cliente cliente) throws InvalidFieldException {
+        if (cliente.getNome() == null || cliente.getNome().isEmpty()) {
+            throw new InvalidFieldException(HttpStatus.BAD_REQUEST, messageService.getMessage("error.invalidName"));
+        }
+
+        if (cliente.getNome().length() <= 10) {
+            throw new InvalidFieldException(HttpStatus.BAD_REQUEST, messageService.getMessage("error.invalidName.lengh"));
+        }
+    }
+
+    /**
+     * Método para verificar o formato dos telefones e calcular as suas chaves numéricas
+     * A chave já calculada na leitura do DTO é reaproveitada
+     * @param cliente entidade {@link Cliente}
+     * @return chaves numéricas dos telefones do cliente, na ordem informada
+     * @throws InvalidFieldException caso ocorra erro de validação
+     */
+    public List<Long> validateTelefones(Cliente cliente) throws InvalidFieldException {
+        if (cliente.getTelefoneClienteList() == null) {
+            return List.of();
+        }
+        List<Long> chaves = new ArrayList<>(cliente.getTelefoneClienteList().size());
+        for (TelefoneCliente telefone : cliente.getTelefoneClienteList()) {
+            long chave = telefone.getNumeroChave() != null ? telefone.getNumeroChave() : Util.parsePhone(telefone.getNumero());
+            if (chave == Util.INVALID_PHONE) {
+                throw new InvalidFieldException(HttpStatus.BAD_REQUEST, messageService.getMessage("error.invalidPhone.format"));
+            }
+            telefone.setNumeroChave(chave);
+            chaves.add(chave);
+        }
+        return chaves;
+    }
+
+    /**
+     * Método para verificar se existe nome ou telefone duplicado.
+     * O nome e os telefones são consultados ao mesmo tempo e todos os telefones em conflito são reportados de uma vez.
+     * @param cliente entidade {@link Cliente}
+     * @param chaves chaves numéricas dos telefones do cliente
+     * @return a conclusão da validação, ou um erro {@link InvalidFieldException} com status 409
+     */
+    public Mono<Void> validateDuplicados(Cliente cliente, List<Long> chaves) {
+        Set<Long> telefonesDuplicados = new TreeSet<>();
+        Set<Long> informados = new HashSet<>();
+        for (Long chave : chaves) {
+            if (!informados.add(chave)) {
+                telefonesDuplicados.add(chave);
+            }
+        }
+
+        Mono<Boolean> nomeDuplicado = clienteRepository.findByNome(cliente.getNome())
+                .any(existente -> !existente.getId().equals(cliente.getId()));
+        Flux<Long> telefonesEmUso = chaves.isEmpty() ? Flux.empty() : telefoneClienteRepository.findByNumeroChaveIn(chaves)
+                .filter(telefone -> !Objects.equals(telefone.getClienteId(), cliente.getId()))
+                .map(TelefoneCliente::getNumeroChave);
+        return Mono.zip(nomeDuplicado, telefonesEmUso.collectList()).flatMap(conflitos -> {
+            telefonesDuplicados.addAll(conflitos.getT2());
+            if (conflitos.getT1() && telefonesDuplicados.isEmpty()) {
+                return Mono.error(new InvalidFieldException(HttpStatus.CONFLICT, messageService.getMessage("error.duplicateName")));
+            }
+            if (!telefonesDuplicados.isEmpty()) {
+                StringJoiner numeros = new StringJoiner(", ");
+                telefonesDuplicados.forEach(chave -> numeros.add(String.valueOf(chave)));
+                String mensagem = messageService.getMessage("error.duplicatePhones", numeros.toString());
+                if (conflitos.getT1()) {
+                    mensagem = messageService.getMessage("error.duplicateName") + ". " + mensagem;
+                }
+                return Mono.error(new InvalidFieldException(HttpStatus.CONFLICT, mensagem));
+            }
+            return Mono.empty();
+        });
+    }
+}
@@ -0,0 +1,345 @@
+package com.br.totvs.reactive.service;
+
+import com.br.totvs.exception.CustomException;
+import com.br.totvs.exception.InvalidFieldException;
+import com.br.totvs.model.interfaces.ChildEntity;
+import com.br.totvs.reactive.service.metadata.ChildCollection;
+import com.br.totvs.service.message.MessageService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.springframework.data.relational.core.query.Criteria.where;
+import static org.springframework.data.relational.core.query.Query.query;
+
+/**
+ * Esta é uma classe abstrata que fornece uma implementação genérica e não bloqueante de um serviço,
+ * com o mesmo contrato do {@code GenericServiceAbstract} da aplicação servlet: salvar, atualizar, excluir,
+ * recuperar por id e recuperar todas as entidades, com os ganchos {@link #validateBeforeSave(Object)} e
+ * {@link #validateBeforeUpdate(Object)} e a configuração das referências dos pais ({@link ChildEntity}).
+ * <p>
+ * As gravações usam o {@link R2dbcEntityTemplate} e as coleções de filhos, descritas por {@link #getChildCollections()},
+ * são gravadas e carregadas pelo serviço, já que o R2DBC não mapeia relacionamentos.
+ *
+ * @param <T>  o tipo de entidade
+ * @param <ID> o tipo do id da entidade
+ * @author guilherme-oliveria
+ */
+public abstract class GenericReactiveServiceAbstract<T, ID> {
+
+    /**
+     * Quantidade de entidades por bloco na leitura de todas as entidades: os filhos de cada bloco
+     * são carregados por uma única consulta.
+     */
+    public static final int MAX_PAGE_LIMIT = 100;
+
+    private final R2dbcRepository<T, ID> repository;
+    private final R2dbcEntityTemplate template;
+    private final MessageService messageService;
+    private final Class<T> entityClass;
+    private final RelationalPersistentEntity<T> persistentEntity;
+
+    @SuppressWarnings("unchecked")
+    public GenericReactiveServiceAbstract(R2dbcRepository<T, ID> repository, R2dbcEntityTemplate template, MessageService messageService) {
+        this.repository = repository;
+        this.template = template;
+        this.messageService = messageService;
+        this.entityClass = (Class<T>) ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments()[0];
+        this.persistentEntity = persistentEntity(entityClass);
+    }
+
+    public Class<T> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * Salva a entidade fornecida e as suas coleções de filhos em uma única transação.
+     * Os filhos são inseridos depois da entidade, quando o id gerado já foi atribuído às suas referências.
+     *
+     * @param entity a entidade a ser salva
+     * @return a entidade salva
+     */
+    @Transactional
+    public Mono<T> save(T entity) {
+        return Mono.defer(() -> {
+                    configParentReferencesAuto(entity);
+                    return validateBeforeSave(entity);
+                })
+                .then(Mono.defer(() -> template.insert(entity)))
+                .flatMap(saved -> saveChildren(saved, false).thenReturn(saved))
+                .onErrorMap(this::persistenceError);
+    }
+
+    /**
+     * Atualiza a entidade fornecida e substitui as suas coleções de filhos em uma única transação.
+     * A entidade não é carregada antes da gravação: o comando de atualização que não encontra a linha decide o 404.
+     * Os filhos que deixaram de existir são excluídos antes das alterações e inclusões, de modo que um valor único
+     * pode passar de um filho excluído para um novo.
+     *
+     * @param entity a entidade a ser atualizada
+     * @return a entidade atualizada
+     */
+    @Transactional
+    public Mono<T> update(T entity) {
+        return Mono.defer(() -> {
+                    configParentReferencesAuto(entity);
+                    return validateBeforeUpdate(entity);
+                })
+                .then(Mono.defer(() -> template.update(entity)))
+                .onErrorMap(TransientDataAccessResourceException.class, e -> notFound(getId(entity)))
+                .flatMap(updated -> saveChildren(updated, true).thenReturn(updated))
+                .onErrorMap(this::persistenceError);
+    }
+
+    /**
+     * Exclui a entidade com o id fornecido e os seus filhos, sem carregá-los.
+     * A quantidade de linhas excluídas decide entre 404 e sucesso.
+     *
+     * @param id o id da entidade a ser excluída
+     * @return a conclusão da exclusão
+     */
+    @Transactional
+    public Mono<Void> delete(ID id) {
+        return deleteChildren(List.of(id))
+                .then(template.delete(query(where(idProperty(persistentEntity)).is(id)), entityClass))
+                .flatMap(deleted -> deleted == 0 ? Mono.<Void>error(notFound(id)) : Mono.<Void>empty())
+                .onErrorMap(this::persistenceError);
+    }
+
+    /**
+     * Exclui os filhos das entidades com os ids fornecidos, antes da exclusão das entidades:
+     * um comando por coleção de filhos.
+     *
+     * @param ids os ids das entidades
+     * @return a conclusão da exclusão
+     */
+    protected Mono<Void> deleteChildren(List<ID> ids) {
+        return Flux.fromIterable(getChildCollections())
+                .concatMap(childCollection -> template.delete(query(where(childCollection.parentProperty()).in(ids)), childCollection.type()))
+                .then();
+    }
+
+    /**
+     * Recupera a entidade com o id fornecido, com as coleções de filhos carregadas.
+     *
+     * @param id o id da entidade a ser recuperada
+     * @return a entidade recuperada, ou um erro 404 se ela não existir
+     */
+    public Mono<T> findById(ID id) {
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)))
+                .flatMap(entity -> loadChildren(List.of(entity)))
+                .map(entities -> entities.get(0));
+    }
+
+    /**
+     * Recupera todas as entidades ordenadas pelo id, com as coleções de filhos carregadas.
+     * A leitura respeita a demanda do assinante: as entidades são lidas em blocos de {@link #MAX_PAGE_LIMIT},
+     * os filhos de cada bloco são carregados por uma consulta por coleção e o bloco seguinte só é lido quando
+     * o anterior foi consumido, de modo que a memória usada não depende da quantidade de registros.
+     *
+     * @return as entidades
+     */
+    public Flux<T> findAll() {
+        return template.select(entityClass)
+                .matching(Query.empty().sort(Sort.by(idProperty(persistentEntity))))
+                .all()
+                .buffer(MAX_PAGE_LIMIT)
+                .concatMap(this::loadChildren, 1)
+                .flatMapIterable(Function.identity());
+    }
+
+    /**
+     * Carrega as coleções de filhos das entidades fornecidas, com uma consulta por coleção.
+     *
+     * @param entities as entidades
+     * @return as mesmas entidades, com os filhos carregados
+     */
+    private Mono<List<T>> loadChildren(List<T> entities) {
+        Map<Object, T> byId = new LinkedHashMap<>();
+        for (T entity : entities) {
+            byId.put(getId(entity), entity);
+        }
+        return Flux.fromIterable(getChildCollections())
+                .concatMap(childCollection -> loadChildren(byId, childCollection))
+                .then(Mono.just(entities));
+    }
+
+    private <C extends ChildEntity<T>> Mono<Void> loadChildren(Map<Object, T> byId, ChildCollection<T, C> childCollection) {
+        byId.values().forEach(entity -> childCollection.setter().accept(entity, new ArrayList<>()));
+        RelationalPersistentEntity<C> childEntity = persistentEntity(childCollection.type());
+        return template.select(query(where(childCollection.parentProperty()).in(byId.keySet())).sort(Sort.by(idProperty(childEntity))),
+                        childCollection.type())
+                .doOnNext(child -> {
+                    Object parentId = childEntity.getPropertyAccessor(child)
+                            .getProperty(childEntity.getRequiredPersistentProperty(childCollection.parentProperty()));
+                    childCollection.getter().apply(byId.get(parentId)).add(child);
+                })
+                .then();
+    }
+
+    /**
+     * Grava as coleções de filhos da entidade fornecida, depois da gravação da entidade.
+     *
+     * @param entity a entidade gravada
+     * @param update true para substituir os filhos já gravados, false para apenas inserir
+     * @return a conclusão da gravação
+     */
+    private Mono<Void> saveChildren(T entity, boolean update) {
+        configParentReferencesAuto(entity);
+        return Flux.fromIterable(getChildCollections())
+                .concatMap(childCollection -> saveChildren(entity, childCollection, update))
+                .then();
+    }
+
+    /**
+     * Grava os filhos de uma coleção. Na atualização, os ids dos filhos já gravados são consultados: os que não
+     * foram enviados são excluídos, os enviados são alterados e os demais (sem id ou com o id de outra entidade pai)
+     * são inseridos.
+     */
+    private <C extends ChildEntity<T>> Mono<Void> saveChildren(T entity, ChildCollection<T, C> childCollection, boolean update) {
+        List<C> children = childCollection.getter().apply(entity) == null ? List.of() : childCollection.getter().apply(entity);
+        RelationalPersistentEntity<C> childEntity = persistentEntity(childCollection.type());
+        String childIdProperty = idProperty(childEntity);
+        if (!update) {
+            return Flux.fromIterable(children).concatMap(template::insert).then();
+        }
+        return template.select(query(where(childCollection.parentProperty()).is(getId(entity))).columns(childIdProperty), childCollection.type())
+                .map(child -> childEntity.getIdentifierAccessor(child).getRequiredIdentifier())
+                .collect(HashSet::new, Set::add)
+                .flatMap(existing -> {
+                    List<C> updates = new ArrayList<>();
+                    List<C> inserts = new ArrayList<>();
+                    for (C child : children) {
+                        Object childId = childEntity.getIdentifierAccessor(child).getIdentifier();
+                        if (childId != null && existing.remove(childId)) {
+                            updates.add(child);
+                        } else {
+                            childEntity.getPropertyAccessor(child).setProperty(childEntity.getRequiredIdProperty(), null);
+                            inserts.add(child);
+                        }
+                    }
+                    Mono<Long> orphans = existing.isEmpty() ? Mono.just(0L)
+                            : template.delete(query(where(childIdProperty).in(existing)), childCollection.type());
+                    return orphans.thenMany(Flux.fromIterable(updates).concatMap(template::update))
+                            .thenMany(Flux.fromIterable(inserts).concatMap(template::insert))
+                            .then();
+                });
+    }
+
+    /**
+     * Converte as falhas de gravação nas exceções com o status da resposta; as exceções já convertidas
+     * (validação e 404) são mantidas.
+     */
+    private Throwable persistenceError(Throwable e) {
+        if (e instanceof CustomException || e instanceof InvalidFieldException) {
+            return e;
+        }
+        if (e instanceof DataIntegrityViolationException) {
+            String mensagemErro = messageService.getMessage("error.dataIntegrityViolation", entityClass.getSimpleName());
+            return new CustomException(HttpStatus.UNPROCESSABLE_ENTITY, mensagemErro, e);
+        }
+        String mensagemErro = messageService.getMessage("error.unexpectedError", e.getMessage());
+        return new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, mensagemErro, e);
+    }
+
+    /**
+     * Cria a exceção de entidade não encontrada.
+     *
+     * @param id o id da entidade
+     * @return a exceção, com o status 404
+     */
+    protected CustomException notFound(ID id) {
+        return new CustomException(HttpStatus.NOT_FOUND, messageService.getMessage("error.objectNotFound", entityClass.getSimpleName(), String.valueOf(id)));
+    }
+
+    /**
+     * Recupera o id da entidade fornecida, pelo mapeamento do Spring Data.
+     *
+     * @param entity a entidade cujo id deve ser recuperado
+     * @return o id da entidade
+     */
+    @SuppressWarnings("unchecked")
+    public ID getId(T entity) {
+        return entity == null ? null : (ID) persistentEntity.getIdentifierAccessor(entity).getIdentifier();
+    }
+
+    /**
+     * Define o id da entidade fornecida.
+     *
+     * @param entity a entidade
+     * @param id     o id
+     */
+    public void setId(T entity, ID id) {
+        persistentEntity.getPropertyAccessor(entity).setProperty(persistentEntity.getRequiredIdProperty(), id);
+    }
+
+    /**
+     * Configura as referências dos pais automaticamente, em todas as coleções de {@link #getChildCollections()}.
+     * A configuração é repetida depois da gravação da entidade, para que uma entidade nova repasse o id gerado aos filhos.
+     *
+     * @param entity a entidade cujas referências dos pais devem ser configuradas
+     */
+    public void configParentReferencesAuto(T entity) {
+        for (ChildCollection<T, ?> childCollection : getChildCollections()) {
+            List<? extends ChildEntity<T>> children = childCollection.getter().apply(entity);
+            if (children != null) {
+                for (ChildEntity<T> child : children) {
+                    child.setParent(entity);
+                }
+            }
+        }
+    }
+
+    /**
+     * Recupera as coleções de filhos da entidade. Por padrão a entidade não possui filhos.
+     *
+     * @return as coleções de filhos
+     */
+    protected List<ChildCollection<T, ?>> getChildCollections() {
+        return List.of();
+    }
+
+    /**
+     * Valida a entidade fornecida antes de salvar.
+     *
+     * @param entity a entidade a ser validada
+     * @return a conclusão da validação, ou um erro com o motivo da rejeição
+     */
+    public abstract Mono<Void> validateBeforeSave(T entity);
+
+
+    /**
+     * Valida a entidade fornecida antes de atualizar.
+     *
+     * @param entity a entidade a ser validada
+     * @return a conclusão da validação, ou um erro com o motivo da rejeição
+     */
+    public abstract Mono<Void> validateBeforeUpdate(T entity);
+
+    @SuppressWarnings("unchecked")
+    private <E> RelationalPersistentEntity<E> persistentEntity(Class<E> type) {
+        return (RelationalPersistentEntity<E>) template.getConverter().getMappingContext().getRequiredPersistentEntity(type);
+    }
+
+    private static String idProperty(RelationalPersistentEntity<?> entity) {
+        return entity.getRequiredIdProperty().getName();
+    }
+}
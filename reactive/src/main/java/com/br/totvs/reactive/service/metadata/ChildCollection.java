@@ -0,0 +1,23 @@
+package com.br.totvs.reactive.service.metadata;
+
+import com.br.totvs.model.interfaces.ChildEntity;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Coleção de entidades filhas gravada, carregada e excluída junto com a entidade pai.
+ * Como o R2DBC não mapeia relacionamentos, a coleção é descrita pelo serviço da entidade pai.
+ *
+ * @param type           o tipo das entidades filhas
+ * @param parentProperty a propriedade da entidade filha com o id da entidade pai
+ * @param getter         o acessor da coleção na entidade pai
+ * @param setter         o modificador da coleção na entidade pai
+ * @param <T>            o tipo da entidade pai
+ * @param <C>            o tipo das entidades filhas
+ * @author guilherme-oliveria
+ */
+public record ChildCollection<T, C extends ChildEntity<T>>(Class<C> type, String parentProperty,
+                                                          Function<T, List<C>> getter, BiConsumer<T, List<C>> setter) {
+}
@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS tb_cliente (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome     VARCHAR(500) NOT NULL,
+    endereco VARCHAR(255),
+    bairro   VARCHAR(255),
+    CONSTRAINT uk_cliente_nome UNIQUE (nome)
+);
+
+CREATE TABLE IF NOT EXISTS tb_telefone_cliente (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    numero       VARCHAR(255) NOT NULL,
+    numero_chave BIGINT       NOT NULL,
+    id_cliente   BIGINT,
+    CONSTRAINT uk_telefone_cliente_numero_chave UNIQUE (numero_chave),
+    CONSTRAINT fk_telefone_cliente FOREIGN KEY (id_cliente) REFERENCES tb_cliente (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_telefone_cliente_cliente ON tb_telefone_cliente (id_cliente);
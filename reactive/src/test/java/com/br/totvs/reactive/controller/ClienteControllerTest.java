@@ -0,0 +1,178 @@
+package com.br.totvs.reactive.controller;
+
+import com.br.totvs.dto.ClienteDTO;
+import com.br.totvs.dto.TelefoneClienteDTO;
+import com.br.totvs.reactive.model.Cliente;
+import com.br.totvs.reactive.model.TelefoneCliente;
+import com.br.totvs.reactive.service.ClienteService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+public class ClienteControllerTest {
+
+    private static final String URL = "/api/v1/clientes";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @BeforeEach
+    public void setUp() {
+        databaseClient.sql("DELETE FROM tb_telefone_cliente").then()
+                .then(databaseClient.sql("DELETE FROM tb_cliente").then())
+                .block();
+    }
+
+    @Test
+    public void testCriaEBuscaPorId() {
+        ClienteDTO criado = criar(new ClienteDTO(null, "Cliente Reativo", "Rua A", "Centro",
+                List.of(new TelefoneClienteDTO(null, "(62) 91234-5678"), new TelefoneClienteDTO(null, "62912345679"))));
+
+        assertNotNull(criado.id());
+        assertEquals(2, criado.telefoneClienteList().size());
+        webTestClient.get().uri(URL + "/{id}", criado.id())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ClienteDTO.class).isEqualTo(criado);
+    }
+
+    @Test
+    public void testCriaComCampoInvalido() {
+        webTestClient.post().uri(URL)
+                .bodyValue(new ClienteDTO(null, "Curto", null, null, List.of(new TelefoneClienteDTO(null, "123"))))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Validation Error")
+                .jsonPath("$.message").isEqualTo("Um ou mais campos são inválidos.")
+                .jsonPath("$.errors.length()").isEqualTo(2)
+                .jsonPath("$.errors[0].field").isEqualTo("nome")
+                .jsonPath("$.errors[0].message").isEqualTo("O nome do cliente deve ter mais de 10 caracteres")
+                .jsonPath("$.errors[1].field").isEqualTo("telefoneClienteList[0].numero")
+                .jsonPath("$.errors[1].message").isEqualTo("O formato do telefone é inválido.");
+    }
+
+    @Test
+    public void testCriaComNomeETelefoneDuplicados() {
+        criar(new ClienteDTO(null, "Cliente Duplicado", null, null, List.of(new TelefoneClienteDTO(null, "62912345678"))));
+
+        webTestClient.post().uri(URL)
+                .bodyValue(new ClienteDTO(null, "Cliente Duplicado", null, null, List.of(new TelefoneClienteDTO(null, "(62) 91234-5678"))))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Já existe um cliente com o mesmo nome. Os telefones 62912345678 já estão vinculados a outro cliente");
+    }
+
+    @Test
+    public void testUpdateSubstituiTelefones() {
+        ClienteDTO criado = criar(new ClienteDTO(null, "Cliente Reativo", null, null,
+                List.of(new TelefoneClienteDTO(null, "62912345678"), new TelefoneClienteDTO(null, "62912345679"))));
+        TelefoneClienteDTO mantido = criado.telefoneClienteList().get(0);
+
+        // o segundo telefone é removido e o seu número passa para um telefone novo, na mesma atualização
+        ClienteDTO atualizado = webTestClient.put().uri(URL + "/{id}", criado.id())
+                .bodyValue(new ClienteDTO(null, "Cliente Reativo Alterado", "Rua B", null,
+                        List.of(mantido, new TelefoneClienteDTO(null, "62912345679"))))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ClienteDTO.class).returnResult().getResponseBody();
+
+        ClienteDTO lido = webTestClient.get().uri(URL + "/{id}", criado.id())
+                .exchange()
+                .expectBody(ClienteDTO.class).returnResult().getResponseBody();
+        assertEquals(atualizado, lido);
+        assertEquals("Cliente Reativo Alterado", lido.nome());
+        assertEquals(mantido, lido.telefoneClienteList().get(0));
+        assertEquals(2, lido.telefoneClienteList().size());
+    }
+
+    @Test
+    public void testUpdateNaoEncontrado() {
+        webTestClient.put().uri(URL + "/{id}", 999_999)
+                .bodyValue(new ClienteDTO(null, "Cliente Inexistente", null, null, List.of()))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    public void testDeleteExcluiTelefones() {
+        ClienteDTO criado = criar(new ClienteDTO(null, "Cliente Reativo", null, null, List.of(new TelefoneClienteDTO(null, "62912345678"))));
+
+        webTestClient.delete().uri(URL + "/{id}", criado.id()).exchange().expectStatus().isNoContent();
+        webTestClient.get().uri(URL + "/{id}", criado.id()).exchange().expectStatus().isNotFound();
+        webTestClient.delete().uri(URL + "/{id}", criado.id()).exchange().expectStatus().isNotFound();
+        // o número fica livre para outro cliente
+        criar(new ClienteDTO(null, "Outro Cliente Reativo", null, null, List.of(new TelefoneClienteDTO(null, "62912345678"))));
+    }
+
+    @Test
+    public void testFindAllEmNdjson() {
+        int quantidade = 250;
+        Flux.range(0, quantidade)
+                .concatMap(i -> {
+                    Cliente cliente = Cliente.builder().nome("Cliente Reativo " + i).build();
+                    cliente.addTelefone(TelefoneCliente.builder().numero(String.format("62%09d", i)).build());
+                    return clienteService.save(cliente);
+                })
+                .blockLast();
+
+        List<ClienteDTO> clientes = webTestClient.get().uri(URL)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(ClienteDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertEquals(quantidade, clientes.size());
+        for (int i = 0; i < quantidade; i++) {
+            assertEquals("Cliente Reativo " + i, clientes.get(i).nome());
+            assertEquals(String.format("62%09d", i), clientes.get(i).telefoneClienteList().get(0).numero());
+        }
+    }
+
+    @Test
+    public void testFindAllRespeitaADemanda() {
+        for (int i = 0; i < 3; i++) {
+            criar(new ClienteDTO(null, "Cliente Reativo " + i, null, null, List.of()));
+        }
+
+        StepVerifier.create(clienteService.findAll(), 1)
+                .expectNextCount(1)
+                .thenRequest(1)
+                .expectNextCount(1)
+                .thenCancel()
+                .verify();
+    }
+
+    private ClienteDTO criar(ClienteDTO dto) {
+        return webTestClient.post().uri(URL)
+                .bodyValue(dto)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(ClienteDTO.class).returnResult().getResponseBody();
+    }
+}
@@ -0,0 +1,59 @@
+package com.br.totvs.benchmark;
+
+import com.br.totvs.dto.ClienteDTO;
+import com.br.totvs.mapper.ClienteMapper;
+import com.br.totvs.mapper.ClienteMapperImpl;
+import com.br.totvs.model.Cliente;
+import com.br.totvs.model.TelefoneCliente;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do mapeamento de clientes (com dois telefones cada) para DTO, com listas de tamanhos diferentes.
+ *
+ * @author guilherme-oliveria
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClienteMapperBenchmark {
+
+    @Param({"1", "100", "1000"})
+    private int quantidade;
+
+    private ClienteMapper mapper;
+    private List<Cliente> clientes;
+
+    @Setup
+    public void setUp() {
+        mapper = new ClienteMapperImpl();
+        clientes = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            Cliente cliente = Cliente.builder().id((long) i).nome("Cliente Benchmark " + i)
+                    .endereco("Rua A").bairro("Centro").build();
+            cliente.addTelefone(TelefoneCliente.builder().id(2l * i).numero(String.format("62%09d", 2 * i)).build());
+            cliente.addTelefone(TelefoneCliente.builder().id(2l * i + 1).numero(String.format("62%09d", 2 * i + 1)).build());
+            clientes.add(cliente);
+        }
+    }
+
+    @Benchmark
+    public ClienteDTO toDto() {
+        return mapper.toDto(clientes.get(0));
+    }
+
+    @Benchmark
+    public List<ClienteDTO> toDtos() {
+        return mapper.toDtos(clientes);
+    }
+}
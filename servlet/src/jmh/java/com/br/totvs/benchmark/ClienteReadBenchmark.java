@@ -0,0 +1,87 @@
+package com.br.totvs.benchmark;
+
+import com.br.totvs.DesafioTotvsApplication;
+import com.br.totvs.dto.ClienteDTO;
+import com.br.totvs.mapper.ClienteMapper;
+import com.br.totvs.model.Cliente;
+import com.br.totvs.model.TelefoneCliente;
+import com.br.totvs.service.ClienteService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark das leituras de clientes (com dois telefones cada) contra o H2 em memória, comparando a leitura
+ * pelas entidades convertidas pelo {@link ClienteMapper} com a leitura pelas linhas de cliente e telefone,
+ * que monta os DTOs sem carregar as entidades. O cache de clientes fica desabilitado para que toda leitura vá ao banco.
+ *
+ * @author guilherme-oliveria
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClienteReadBenchmark {
+
+    @Param({"100", "1000"})
+    private int quantidade;
+
+    private ConfigurableApplicationContext context;
+    private ClienteService clienteService;
+    private ClienteMapper mapper;
+    private Long id;
+
+    @Setup
+    public void setUp() {
+        SpringApplication application = new SpringApplication(DesafioTotvsApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run("--logging.level.root=WARN", "--spring.jpa.show-sql=false", "--app.cache.cliente.enabled=false");
+        clienteService = context.getBean(ClienteService.class);
+        mapper = context.getBean(ClienteMapper.class);
+        List<Cliente> clientes = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            Cliente cliente = Cliente.builder().nome("Cliente Benchmark " + i).endereco("Rua A").bairro("Centro").build();
+            cliente.addTelefone(TelefoneCliente.builder().numero(String.format("62%09d", 2 * i)).build());
+            cliente.addTelefone(TelefoneCliente.builder().numero(String.format("62%09d", 2 * i + 1)).build());
+            clientes.add(cliente);
+        }
+        id = clienteService.saveAll(clientes).saved().get(quantidade / 2).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ClienteDTO findByIdEntidade() {
+        return mapper.toDto(clienteService.findById(id).orElseThrow());
+    }
+
+    @Benchmark
+    public ClienteDTO findByIdLinhas() {
+        return mapper.linhasToDtos(clienteService.findLinhasById(id)).get(0);
+    }
+
+    @Benchmark
+    public List<ClienteDTO> findAllEntidade() {
+        return mapper.toDtos(clienteService.findAll());
+    }
+
+    @Benchmark
+    public List<ClienteDTO> findAllLinhas() {
+        return mapper.linhasToDtos(clienteService.findAllLinhas());
+    }
+}
@@ -0,0 +1,58 @@
+package com.br.totvs.benchmark;
+
+import com.br.totvs.DesafioTotvsApplication;
+import com.br.totvs.model.Cliente;
+import com.br.totvs.model.TelefoneCliente;
+import com.br.totvs.service.ClienteService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do {@link ClienteService#save} de ponta a ponta (validação, verificação de duplicidade e insert)
+ * contra o H2 em memória, com a aplicação iniciada sem o servidor web.
+ * Cada chamada grava um cliente novo, com nome e telefones únicos.
+ *
+ * @author guilherme-oliveria
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ClienteServiceSaveBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private ClienteService clienteService;
+    private long sequencia;
+
+    @Setup
+    public void setUp() {
+        SpringApplication application = new SpringApplication(DesafioTotvsApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        context = application.run("--logging.level.root=WARN", "--spring.jpa.show-sql=false");
+        clienteService = context.getBean(ClienteService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Cliente save() {
+        long n = sequencia++;
+        Cliente cliente = Cliente.builder().nome("Cliente Benchmark " + n).endereco("Rua A").bairro("Centro").build();
+        cliente.addTelefone(TelefoneCliente.builder().numero(String.format("62%09d", 2 * n)).build());
+        cliente.addTelefone(TelefoneCliente.builder().numero(String.format("62%09d", 2 * n + 1)).build());
+        return clienteService.save(cliente);
+    }
+}
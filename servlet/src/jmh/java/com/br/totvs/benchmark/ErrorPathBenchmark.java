@@ -0,0 +1,54 @@
+package com.br.totvs.benchmark;
+
+import com.br.totvs.config.MessageConfig;
+import com.br.totvs.exception.InvalidFieldException;
+import com.br.totvs.model.Cliente;
+import com.br.totvs.service.ClienteService;
+import com.br.totvs.service.message.MessageService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark do caminho de rejeição: validação que lança {@link InvalidFieldException} com a mensagem resolvida
+ * e a resolução de uma mensagem com argumentos (404).
+ *
+ * @author guilherme-oliveria
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ErrorPathBenchmark {
+
+    private MessageService messageService;
+    private ClienteService clienteService;
+    private Cliente clienteInvalido;
+
+    @Setup
+    public void setUp() {
+        messageService = new MessageService(new MessageConfig().messageSource());
+        clienteService = new ClienteService(null, null, messageService, null);
+        clienteInvalido = Cliente.builder().nome("Curto").build();
+    }
+
+    @Benchmark
+    public String rejectInvalidName() {
+        try {
+            clienteService.validateNome(clienteInvalido);
+            return null;
+        } catch (InvalidFieldException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String objectNotFoundMessage() {
+        return messageService.getMessage("error.objectNotFound", "Cliente", 1L);
+    }
+}
@@ -0,0 +1,53 @@
+package com.br.totvs.benchmark;
+
+import com.br.totvs.model.Cliente;
+import com.br.totvs.model.TelefoneCliente;
+import com.br.totvs.service.ClienteService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark dos acessos reflexivos de {@code GenericServiceAbstract}: leitura do id e
+ * configuração das referências dos pais, com quantidades diferentes de telefones.
+ *
+ * @author guilherme-oliveria
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class GenericServiceBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int telefones;
+
+    private ClienteService clienteService;
+    private Cliente cliente;
+
+    @Setup
+    public void setUp() {
+        clienteService = new ClienteService(null, null, null, null);
+        cliente = Cliente.builder().id(1l).nome("Cliente Benchmark").build();
+        for (int i = 0; i < telefones; i++) {
+            cliente.addTelefone(TelefoneCliente.builder().id((long) i).numero(String.format("62%09d", i)).build());
+        }
+    }
+
+    @Benchmark
+    public Long getId() {
+        return clienteService.getId(cliente);
+    }
+
+    @Benchmark
+    public Cliente configParentReferencesAuto() {
+        clienteService.configParentReferencesAuto(cliente);
+        return cliente;
+    }
+}
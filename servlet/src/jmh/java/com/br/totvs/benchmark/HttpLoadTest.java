@@ -0,0 +1,171 @@
+package com.br.totvs.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Teste de carga HTTP da API de clientes, usado para comparar os modos de execução
+ * (threads de plataforma e perfil {@code virtual-threads}) com muitas requisições simultâneas.
+ * Cada usuário virtual envia requisições em sequência, sem pausa: uma fração delas cria um cliente
+ * (POST) e as demais leem um cliente já criado (GET por id). Ao final são exibidos a vazão,
+ * as latências p50/p99 e a quantidade de erros.
+ * As requisições rejeitadas pelo controle de admissão (503) são contadas à parte, fora das latências,
+ * e o usuário aguarda o {@code Retry-After} antes da próxima, como um cliente bem-comportado.
+ * <p>
+ * Parâmetros (chave=valor): {@code url} (padrão http://localhost:8080/api/v1/clientes),
+ * {@code concurrency} (200), {@code duration} (30, em segundos), {@code writes} (0.2, fração de gravações).
+ * <pre>
+ * mvn -Pbenchmark -DskipTests test-compile exec:exec@load-test -Dloadtest.args="concurrency=500 duration=60"
+ * </pre>
+ *
+ * @author guilherme-oliveria
+ */
+public class HttpLoadTest {
+
+    private static final AtomicLong SEQUENCIA = new AtomicLong(System.nanoTime() % 1_000_000_000L);
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> params = new HashMap<>();
+        for (String arg : args) {
+            String[] keyValue = arg.split("=", 2);
+            params.put(keyValue[0], keyValue.length > 1 ? keyValue[1] : "");
+        }
+        String url = params.getOrDefault("url", "http://localhost:8080/api/v1/clientes");
+        int concurrency = Integer.parseInt(params.getOrDefault("concurrency", "200"));
+        long duration = Long.parseLong(params.getOrDefault("duration", "30"));
+        double writes = Double.parseDouble(params.getOrDefault("writes", "0.2"));
+
+        // HTTP/1.1 fixo: por padrão o cliente tenta o upgrade para HTTP/2 (h2c) em cada conexão, o que distorce a medição
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(8))
+                .build();
+        long seedId = post(client, url);
+
+        long[][] latencias = new long[concurrency][];
+        int[] quantidades = new int[concurrency];
+        AtomicLong erros = new AtomicLong();
+        AtomicLong rejeitadas = new AtomicLong();
+        long fim = System.nanoTime() + TimeUnit.SECONDS.toNanos(duration);
+        ExecutorService usuarios = Executors.newFixedThreadPool(concurrency);
+        for (int u = 0; u < concurrency; u++) {
+            int usuario = u;
+            usuarios.submit(() -> {
+                long[] amostras = new long[1024];
+                int n = 0;
+                long ultimoId = seedId;
+                while (System.nanoTime() < fim) {
+                    long inicio = System.nanoTime();
+                    try {
+                        if (ThreadLocalRandom.current().nextDouble() < writes) {
+                            ultimoId = post(client, url);
+                        } else {
+                            get(client, url + "/" + ultimoId);
+                        }
+                    } catch (Rejeitada e) {
+                        rejeitadas.incrementAndGet();
+                        sleep(e.retryAfterSeconds);
+                        continue;
+                    } catch (Exception e) {
+                        erros.incrementAndGet();
+                    }
+                    if (n == amostras.length) {
+                        amostras = Arrays.copyOf(amostras, n * 2);
+                    }
+                    amostras[n++] = System.nanoTime() - inicio;
+                }
+                latencias[usuario] = amostras;
+                quantidades[usuario] = n;
+            });
+        }
+        usuarios.shutdown();
+        usuarios.awaitTermination(duration + 60, TimeUnit.SECONDS);
+
+        int total = Arrays.stream(quantidades).sum();
+        long[] todas = new long[total];
+        int pos = 0;
+        for (int u = 0; u < concurrency; u++) {
+            System.arraycopy(latencias[u], 0, todas, pos, quantidades[u]);
+            pos += quantidades[u];
+        }
+        Arrays.sort(todas);
+        System.out.printf("concurrency=%d duration=%ds writes=%.2f requests=%d errors=%d rejected=%d throughput=%.1f req/s p50=%.1fms p99=%.1fms%n",
+                concurrency, duration, writes, total, erros.get(), rejeitadas.get(), total / (double) duration,
+                percentil(todas, 0.50), percentil(todas, 0.99));
+        System.exit(0);
+    }
+
+    private static long post(HttpClient client, String url) throws Exception {
+        long n = SEQUENCIA.incrementAndGet();
+        String body = String.format("{\"nome\":\"Cliente Carga %d\",\"endereco\":\"Rua A\",\"bairro\":\"Centro\","
+                + "\"telefoneClienteList\":[{\"numero\":\"62%09d\"}]}", n, n % 1_000_000_000L);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        rejeitada(response);
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("POST " + response.statusCode());
+        }
+        String json = response.body();
+        int inicio = json.indexOf("\"id\":") + 5;
+        return Long.parseLong(json.substring(inicio, json.indexOf(',', inicio)));
+    }
+
+    private static void get(HttpClient client, String url) throws Exception {
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+        rejeitada(response);
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + response.statusCode());
+        }
+    }
+
+    private static void rejeitada(HttpResponse<?> response) {
+        if (response.statusCode() == 503) {
+            throw new Rejeitada(response.headers().firstValueAsLong("Retry-After").orElse(1));
+        }
+    }
+
+    private static void sleep(long seconds) {
+        try {
+            TimeUnit.SECONDS.sleep(seconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Requisição rejeitada pelo controle de admissão.
+     */
+    private static final class Rejeitada extends RuntimeException {
+
+        private final long retryAfterSeconds;
+
+        private Rejeitada(long retryAfterSeconds) {
+            super(null, null, false, false);
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+    }
+
+    private static double percentil(long[] ordenadas, double percentil) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int indice = (int) Math.ceil(percentil * ordenadas.length) - 1;
+        return ordenadas[Math.max(indice, 0)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,139 @@
+package com.br.totvs.benchmark;
+
+import com.br.totvs.DesafioTotvsApplication;
+import com.br.totvs.model.Cliente;
+import com.br.totvs.model.TelefoneCliente;
+import com.br.totvs.service.ClienteService;
+import com.br.totvs.service.batch.BatchResult;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+/**
+ * Compara o banco H2 em memória com o perfil {@code file} (H2 MVStore em disco) com uma carga grande de clientes.
+ * Para cada modo são medidos: o tempo de início com o banco vazio, a carga dos clientes (com dois telefones cada)
+ * pelo {@link ClienteService#saveAll} em lotes, a vazão de leituras por id em ids aleatórios e, no modo file,
+ * o tempo de início com os dados já gravados (que substitui a recarga completa exigida pelo banco em memória)
+ * e a vazão de leituras logo após esse início, com o cache de páginas frio.
+ * <p>
+ * Parâmetros (chave=valor): {@code clientes} (padrão 1000000), {@code lote} (1000), {@code leituras} (100000),
+ * {@code modos} (mem,file) e {@code path} (target/benchmark-h2/totvsdb, apagado antes da carga).
+ * Os demais parâmetros no formato {@code --propriedade=valor} são repassados à aplicação
+ * (ex.: {@code --app.h2.file.cache-size=16384}).
+ * <pre>
+ * mvn -Pbenchmark -DskipTests test-compile exec:exec@persistence -Dpersistence.args="clientes=1000000"
+ * </pre>
+ *
+ * @author guilherme-oliveria
+ */
+public class PersistenceBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> params = new HashMap<>();
+        List<String> propriedades = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                propriedades.add(arg);
+                continue;
+            }
+            String[] keyValue = arg.split("=", 2);
+            params.put(keyValue[0], keyValue.length > 1 ? keyValue[1] : "");
+        }
+        int clientes = Integer.parseInt(params.getOrDefault("clientes", "1000000"));
+        int lote = Integer.parseInt(params.getOrDefault("lote", "1000"));
+        int leituras = Integer.parseInt(params.getOrDefault("leituras", "100000"));
+        Path path = Path.of(params.getOrDefault("path", "target/benchmark-h2/totvsdb"));
+        // o primeiro início carrega as classes da aplicação e não é medido, para não penalizar o primeiro modo
+        start(List.of("--logging.level.root=WARN", "--spring.main.banner-mode=off")).close();
+
+        for (String modo : params.getOrDefault("modos", "mem,file").split(",")) {
+            List<String> argumentos = new ArrayList<>(List.of("--logging.level.root=WARN", "--logging.level.org.flywaydb=ERROR",
+                    "--spring.main.banner-mode=off", "--spring.jpa.show-sql=false", "--app.cache.cliente.enabled=false"));
+            if ("file".equals(modo)) {
+                FileSystemUtils.deleteRecursively(path.getParent());
+                argumentos.add("--spring.profiles.active=file");
+                argumentos.add("--app.h2.file.path=" + path.toAbsolutePath());
+            }
+            argumentos.addAll(propriedades);
+
+            long inicio = System.nanoTime();
+            ConfigurableApplicationContext context = start(argumentos);
+            double inicioVazio = segundos(inicio);
+            long[] ids = new long[clientes];
+            inicio = System.nanoTime();
+            carregar(context.getBean(ClienteService.class), clientes, lote, ids);
+            double carga = segundos(inicio);
+            double vazaoLeitura = ler(context.getBean(ClienteService.class), ids, leituras);
+            context.close();
+            System.out.printf("modo=%s clientes=%d inicio(vazio)=%.1fs carga=%.1fs (%.0f clientes/s) leituras=%.0f/s",
+                    modo, clientes, inicioVazio, carga, clientes / carga, vazaoLeitura);
+
+            if ("file".equals(modo)) {
+                inicio = System.nanoTime();
+                context = start(argumentos);
+                double inicioComDados = segundos(inicio);
+                double vazaoFria = ler(context.getBean(ClienteService.class), ids, leituras);
+                context.close();
+                System.out.printf(" inicio(com dados)=%.1fs leituras(cache frio)=%.0f/s arquivo=%dMB",
+                        inicioComDados, vazaoFria, tamanho(path.getParent()) / (1024 * 1024));
+            }
+            System.out.println();
+        }
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext start(List<String> argumentos) {
+        SpringApplication application = new SpringApplication(DesafioTotvsApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        return application.run(argumentos.toArray(String[]::new));
+    }
+
+    private static void carregar(ClienteService clienteService, int clientes, int lote, long[] ids) {
+        int n = 0;
+        while (n < clientes) {
+            List<Cliente> lista = new ArrayList<>(lote);
+            for (int i = n; i < Math.min(n + lote, clientes); i++) {
+                Cliente cliente = Cliente.builder().nome("Cliente Benchmark " + i).endereco("Rua A").bairro("Bairro " + i % 100).build();
+                cliente.addTelefone(TelefoneCliente.builder().numero(String.format("62%09d", 2 * i)).build());
+                cliente.addTelefone(TelefoneCliente.builder().numero(String.format("62%09d", 2 * i + 1)).build());
+                lista.add(cliente);
+            }
+            BatchResult<Cliente> result = clienteService.saveAll(lista);
+            if (!result.errors().isEmpty()) {
+                throw new IllegalStateException(result.errors().get(0).message());
+            }
+            for (Cliente cliente : result.saved()) {
+                ids[n++] = cliente.getId();
+            }
+        }
+    }
+
+    private static double ler(ClienteService clienteService, long[] ids, int leituras) {
+        long inicio = System.nanoTime();
+        for (int i = 0; i < leituras; i++) {
+            clienteService.findLinhasById(ids[ThreadLocalRandom.current().nextInt(ids.length)]);
+        }
+        return leituras / segundos(inicio);
+    }
+
+    private static double segundos(long inicio) {
+        return (System.nanoTime() - inicio) / 1_000_000_000.0;
+    }
+
+    private static long tamanho(Path diretorio) throws IOException {
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            return arquivos.filter(Files::isRegularFile).mapToLong(arquivo -> arquivo.toFile().length()).sum();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.br.totvs.benchmark;
+
+import com.br.totvs.util.Util;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark da validação e da normalização dos telefones.
+ *
+ * @author guilherme-oliveria
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UtilBenchmark {
+
+    @Param({"62990909090", "(62) 99090-9090", "123568"})
+    private String numero;
+
+    @Benchmark
+    public boolean isValidPhoneFormat() {
+        return Util.isValidPhoneFormat(numero);
+    }
+
+    @Benchmark
+    public long parsePhone() {
+        return Util.parsePhone(numero);
+    }
+
+    @Benchmark
+    public Long toPhoneKey() {
+        return Util.toPhoneKey(numero);
+    }
+}
@@ -1,7 +1,10 @@
 package com.br.totvs.config;
 
+import com.br.totvs.controller.AbstractController;
+import com.br.totvs.controller.idempotency.IdempotencyStore;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -16,8 +19,9 @@ public class CorsConfig implements WebMvcConfigurer {
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
                 .allowedOrigins(allowedOrigins)
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "HEAD", "OPTIONS")
+                .allowedMethods("GET", "POST", "PUT", "PATCH", "DELETE", "HEAD", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders(HttpHeaders.ETAG, AbstractController.CHANGE_TOKEN_HEADER, IdempotencyStore.IDEMPOTENT_REPLAYED_HEADER)
                 .allowCredentials(true);
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.br.totvs.config;
+
+import com.br.totvs.service.metrics.EntityMetrics;
+import com.br.totvs.service.metrics.SqlStatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Configura a instrumentação das fases de processamento e dos comandos SQL:
+ * o {@link SqlStatementCounter} é registrado no Hibernate e o conversor JSON é substituído
+ * pelo {@link TimedJacksonHttpMessageConverter}, que mede a serialização das respostas.
+ *
+ * @author guilherme-oliveria
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final EntityMetrics entityMetrics;
+
+    public MetricsConfig(EntityMetrics entityMetrics) {
+        this.entityMetrics = entityMetrics;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i) instanceof MappingJackson2HttpMessageConverter jackson
+                    && !(jackson instanceof TimedJacksonHttpMessageConverter)) {
+                converters.set(i, new TimedJacksonHttpMessageConverter(jackson.getObjectMapper(), entityMetrics));
+            }
+        }
+    }
+}
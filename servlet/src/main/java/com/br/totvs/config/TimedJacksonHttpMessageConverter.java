@@ -0,0 +1,67 @@
+package com.br.totvs.config;
+
+import com.br.totvs.controller.AbstractController;
+import com.br.totvs.service.metrics.EntityMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Conversor JSON que mede a serialização das respostas dos controladores que estendem {@link AbstractController},
+ * no timer da fase {@code serialize} da entidade do controlador.
+ *
+ * @author guilherme-oliveria
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private static final ClassValue<Class<?>> ENTITY_CLASSES = new ClassValue<>() {
+        @Override
+        protected Class<?> computeValue(Class<?> controllerClass) {
+            if (!AbstractController.class.isAssignableFrom(controllerClass)) {
+                return null;
+            }
+            return ResolvableType.forClass(controllerClass).as(AbstractController.class).getGeneric(0).resolve();
+        }
+    };
+
+    private final EntityMetrics entityMetrics;
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper, EntityMetrics entityMetrics) {
+        super(objectMapper);
+        this.entityMetrics = entityMetrics;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        Class<?> entityClass = currentEntityClass();
+        if (entityClass == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            entityMetrics.timersFor(entityClass).recordSerialize(System.nanoTime() - start);
+        }
+    }
+
+    private static Class<?> currentEntityClass() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object handler = attributes.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return handler instanceof HandlerMethod handlerMethod ? ENTITY_CLASSES.get(handlerMethod.getBeanType()) : null;
+    }
+}
@@ -0,0 +1,555 @@
+package com.br.totvs.controller;
+
+import com.br.totvs.controller.idempotency.IdempotencyStore;
+import com.br.totvs.dto.BatchErrorDTO;
+import com.br.totvs.dto.BatchResultDTO;
+import com.br.totvs.dto.BulkDeleteResultDTO;
+import com.br.totvs.dto.ChangeDTO;
+import com.br.totvs.dto.ChangeFeedDTO;
+import com.br.totvs.dto.FieldErrorDTO;
+import com.br.totvs.dto.PageDTO;
+import com.br.totvs.dto.interfaces.EntityDTO;
+import com.br.totvs.mapper.EntityMapper;
+import com.br.totvs.model.EntityChange;
+import com.br.totvs.service.GenericServiceAbstract;
+import com.br.totvs.service.batch.BatchError;
+import com.br.totvs.service.batch.BatchResult;
+import com.br.totvs.service.batch.BulkDeleteResult;
+import com.br.totvs.service.cache.Versioned;
+import com.br.totvs.service.change.Change;
+import com.br.totvs.service.change.ChangePage;
+import com.br.totvs.service.change.EntityChangeEvent;
+import com.br.totvs.service.metrics.EntityMetrics;
+import com.br.totvs.service.metrics.PhaseTimers;
+import com.br.totvs.exception.CustomException;
+import com.br.totvs.exception.InvalidFieldException;
+import com.br.totvs.service.page.KeysetPage;
+import com.br.totvs.util.ETagUtil;
+import com.br.totvs.util.JsonMergePatch;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.persistence.Entity;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Controller;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Classe abstrata para operações de CRUD
+ * @param <T> entidade
+ * @param <DTO> dto
+ * @param <PK> tipo do identificador
+ * @param <SERVICE> serviço
+ * @param <MAPPER> mapeador
+ */
+@Controller
+public abstract class AbstractController<T extends Entity,
+        DTO extends EntityDTO, PK, SERVICE extends GenericServiceAbstract<T , PK>,
+        MAPPER extends EntityMapper<T , DTO>> {
+
+    /**
+     * Cabeçalho da listagem completa com o token do log de alterações a partir do qual a listagem deve ser atualizada
+     */
+    public static final String CHANGE_TOKEN_HEADER = "X-Change-Token";
+
+    private static final String DEFAULT_CHANGES_LIMIT = "100";
+
+    protected final SERVICE service;
+
+    protected final MAPPER mapper;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private MessageSource messageSource;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityMetrics entityMetrics;
+
+    @Autowired
+    private TaskExecutor taskExecutor;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    private final Class<?> dtoClass;
+
+    private final Class<PK> idClass;
+
+    private final Set<ChangeStream<PK, DTO>> changeStreams = ConcurrentHashMap.newKeySet();
+
+    @SuppressWarnings("unchecked")
+    public AbstractController(SERVICE service, MAPPER mapper) {
+        this.service = service;
+        this.mapper = mapper;
+        ResolvableType type = ResolvableType.forClass(getClass()).as(AbstractController.class);
+        this.dtoClass = type.resolveGeneric(1);
+        this.idClass = (Class<PK>) type.resolveGeneric(2);
+    }
+
+    /** Método para criar um registro
+     * Com o cabeçalho Idempotency-Key, a repetição da requisição recebe a resposta da primeira execução
+     * sem criar o registro novamente
+     * @param idempotencyKey chave de idempotência (opcional)
+     * @param dto registro a ser criado
+     * @return registro criado
+     */
+    @PostMapping
+    public ResponseEntity<DTO> create(@RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                      @Valid @RequestBody DTO dto) {
+        return idempotencyStore.execute(getClass().getName() + ".create", idempotencyKey, dto, () -> {
+            PhaseTimers timers = timers();
+            T entity = service.save(timers.map(() -> mapper.toEntity(dto)));
+            return withETag(ResponseEntity.status(HttpStatus.CREATED), entity).body(timers.map(() -> mapper.toDto(entity)));
+        });
+    }
+
+    /**
+     * Método para criar registros em lote
+     * Cada registro é validado individualmente e os rejeitados são reportados com a sua posição na lista
+     * @param dtos registros a serem criados
+     * @return registros criados e erros dos rejeitados (207 quando algum item foi rejeitado)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResultDTO<DTO>> createAll(@RequestBody List<DTO> dtos) {
+        service.validateBatchSize(dtos.size());
+        PhaseTimers timers = timers();
+        List<BatchErrorDTO> errors = new ArrayList<>();
+        List<T> entities = new ArrayList<>(dtos.size());
+        int[] indices = new int[dtos.size()];
+        for (int i = 0; i < dtos.size(); i++) {
+            Set<ConstraintViolation<DTO>> violations = validator.validate(dtos.get(i));
+            if (violations.isEmpty()) {
+                indices[entities.size()] = i;
+                DTO dto = dtos.get(i);
+                entities.add(timers.map(() -> mapper.toEntity(dto)));
+            } else {
+                errors.add(new BatchErrorDTO(i, HttpStatus.BAD_REQUEST.value(), "Validation Error", message("error.validation"), fieldErrors(violations)));
+            }
+        }
+
+        BatchResult<T> result = service.saveAll(entities);
+        for (BatchError error : result.errors()) {
+            errors.add(new BatchErrorDTO(indices[error.index()], error.status().value(), error.status().getReasonPhrase(), error.message()));
+        }
+        errors.sort(Comparator.comparingInt(BatchErrorDTO::index));
+
+        HttpStatus status = errors.isEmpty() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return new ResponseEntity<>(new BatchResultDTO<>(timers.map(() -> mapper.toDtos(result.saved())), errors), status);
+    }
+
+    /**
+     * Método para atualizar um registro
+     * O registro atualizado é sempre o do caminho: o id do corpo é opcional, e um id diferente do caminho é rejeitado (400)
+     * Com o cabeçalho If-Match, a atualização só é aplicada se o registro ainda estiver na versão do ETag (412 caso contrário)
+     * Com o cabeçalho Idempotency-Key, a repetição da requisição recebe a resposta da primeira execução
+     * (sem o 412 que a nova versão causaria no If-Match repetido)
+     * @param id identificador do registro
+     * @param ifMatch ETags aceitos (opcional)
+     * @param idempotencyKey chave de idempotência (opcional)
+     * @param dto registro a ser atualizado
+     * @return registro atualizado, com o ETag da nova versão
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<DTO> update(@PathVariable PK id, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                      @RequestHeader(value = IdempotencyStore.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+                                      @Valid @RequestBody DTO dto) {
+        return idempotencyStore.execute(getClass().getName() + ".update", idempotencyKey, Arrays.asList(id, ifMatch, dto), () -> {
+            PhaseTimers timers = timers();
+            if (dto.getId() != null && !dto.getId().equals(id)) {
+                throw new InvalidFieldException(HttpStatus.BAD_REQUEST,
+                        messageSource.getMessage("error.idMismatch", new Object[]{dto.getId(), id}, LocaleContextHolder.getLocale()));
+            }
+            Long expectedVersion = expectedVersion(id, ifMatch);
+            T entity = service.update(id, timers.map(() -> mapper.toEntity(dto)), expectedVersion);
+            return withETag(ResponseEntity.ok(), entity).body(timers.map(() -> mapper.toDto(entity)));
+        });
+    }
+
+    /**
+     * Método para atualizar parcialmente um registro (JSON Merge Patch, RFC 7386)
+     * Somente os campos informados são alterados: null remove o valor e as listas substituem a lista atual.
+     * Os filhos são comparados pela chave natural, então os inalterados mantêm o id e não geram SQL
+     * Com o cabeçalho If-Match, a alteração só é aplicada se o registro ainda estiver na versão do ETag (412 caso contrário).
+     * Sem o cabeçalho, a versão esperada é a do registro sobre o qual o patch foi aplicado, pois o registro mesclado é
+     * gravado inteiro: se outra requisição o alterou depois dessa leitura, a resposta é 412 e a alteração não é desfeita
+     * @param id identificador do registro
+     * @param ifMatch ETags aceitos (opcional)
+     * @param patch campos a serem alterados
+     * @return registro atualizado, com o ETag da nova versão
+     */
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<DTO> patch(@PathVariable PK id, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                     @RequestBody JsonNode patch) {
+        PhaseTimers timers = timers();
+        Long matchedVersion = expectedVersion(id, ifMatch);
+        Versioned<DTO> current = readById(id);
+        Long expectedVersion = matchedVersion != null ? matchedVersion : current.version();
+        JsonNode merged = JsonMergePatch.apply(objectMapper.valueToTree(current.value()), patch);
+        if (!(merged instanceof ObjectNode document)) {
+            throw new InvalidFieldException(HttpStatus.BAD_REQUEST, messageSource.getMessage("error.invalidPatch", null, LocaleContextHolder.getLocale()));
+        }
+        document.set("id", objectMapper.valueToTree(id));
+        DTO dto = toDto(document);
+        Set<ConstraintViolation<DTO>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        T entity = service.patch(id, timers.map(() -> mapper.toEntity(dto)), expectedVersion);
+        return withETag(ResponseEntity.ok(), entity).body(timers.map(() -> mapper.toDto(entity)));
+    }
+
+    /**
+     * Método para deletar um registro por id
+     * Com o cabeçalho If-Match, a exclusão só é aplicada se o registro ainda estiver na versão do ETag (412 caso contrário)
+     * @param id identificador do registro
+     * @param ifMatch ETags aceitos (opcional)
+     * @return status da operação
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> delete(@PathVariable PK id, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        service.delete(id, expectedVersion(id, ifMatch));
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Método para excluir registros em lote, pelos ids enviados no corpo ou por um filtro nos parâmetros da requisição
+     * Os registros e os seus filhos são excluídos em uma única transação, por comandos sobre o conjunto de registros
+     * e sem carregá-los; a versão dos registros não é conferida
+     * @param ids identificadores dos registros (até 1000)
+     * @param filter filtro dos registros, usado quando os ids não são enviados ({@link #deleteByFilter})
+     * @return quantidade de registros excluídos e ids não encontrados
+     */
+    @DeleteMapping
+    public ResponseEntity<BulkDeleteResultDTO<PK>> deleteAll(@RequestBody(required = false) List<PK> ids,
+                                                             @RequestParam Map<String, String> filter) {
+        BulkDeleteResult<PK> result;
+        if (ids != null && filter.isEmpty()) {
+            result = service.deleteAll(ids);
+        } else if (ids == null && !filter.isEmpty()) {
+            result = deleteByFilter(filter);
+        } else {
+            throw bulkDeleteTargetError();
+        }
+        return ResponseEntity.ok(new BulkDeleteResultDTO<>(result.deleted(), result.missing()));
+    }
+
+    /**
+     * Exclui em lote os registros que atendem ao filtro enviado nos parâmetros de {@link #deleteAll}. Por padrão
+     * nenhum filtro é aceito; os controladores podem sobrescrever este método para aceitar os filtros da entidade
+     * @param filter parâmetros da requisição
+     * @return quantidade de registros excluídos
+     */
+    protected BulkDeleteResult<PK> deleteByFilter(Map<String, String> filter) {
+        throw bulkDeleteTargetError();
+    }
+
+    private InvalidFieldException bulkDeleteTargetError() {
+        return new InvalidFieldException(HttpStatus.BAD_REQUEST, messageSource.getMessage("error.bulkDeleteTarget", null, LocaleContextHolder.getLocale()));
+    }
+
+    /**
+     * Método para buscar um registro por id
+     * A resposta traz o ETag da versão do registro. Com o cabeçalho If-None-Match, a versão é consultada
+     * sem carregar o registro e, se ainda corresponder ao ETag, a resposta é 304 sem corpo
+     * @param id identificador do registro
+     * @param ifNoneMatch ETags já conhecidos pelo cliente (opcional)
+     * @return registro
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<DTO> findById(@PathVariable PK id, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            String eTag = ETagUtil.format(service.findVersion(id));
+            if (ETagUtil.matches(ifNoneMatch, eTag, false)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+        Versioned<DTO> found = readById(id);
+        return withETag(ResponseEntity.ok(), found.version()).body(found.value());
+    }
+
+    /**
+     * Método para buscar todos os registros
+     * A resposta traz no cabeçalho X-Change-Token o token a ser enviado em /changes para manter a lista atualizada
+     * @return lista de registros
+     */
+    @GetMapping
+    public ResponseEntity<List<DTO>> findAll() {
+        String changeToken = service.currentChangeToken();
+        return ResponseEntity.ok().header(CHANGE_TOKEN_HEADER, changeToken).body(readAll());
+    }
+
+    /**
+     * Método para buscar as alterações dos registros posteriores ao token (inclusões, alterações e exclusões)
+     * Cada registro aparece uma única vez, com o estado atual; os excluídos aparecem com o tipo DELETE e sem dados
+     * @param since token retornado pela leitura anterior (nextToken) ou pela listagem (X-Change-Token); sem token, lê desde o início
+     * @param limit quantidade máxima de alterações lidas do log
+     * @return alterações e o token da próxima leitura
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<ChangeFeedDTO<PK, DTO>> findChanges(@RequestParam(required = false) String since,
+                                                              @RequestParam(defaultValue = DEFAULT_CHANGES_LIMIT) int limit) {
+        return ResponseEntity.ok(readChanges(since, limit));
+    }
+
+    /**
+     * Método para receber as alterações dos registros por Server-Sent Events, a partir do token
+     * Cada evento (nome change) traz uma alteração no mesmo formato de /changes e tem como id o token da alteração
+     * @param since token a partir do qual as alterações são enviadas; sem token, envia desde o início
+     * @param lastEventId token do último evento recebido, enviado pelo navegador ao reconectar (tem precedência sobre since)
+     * @return stream de eventos
+     */
+    @GetMapping(value = "/changes/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(required = false) String since,
+                                    @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        ChangeFeedDTO<PK, DTO> first = readChanges(lastEventId != null ? lastEventId : since, GenericServiceAbstract.MAX_PAGE_LIMIT);
+        ChangeStream<PK, DTO> stream = new ChangeStream<>(new SseEmitter(),
+                token -> readChanges(token, GenericServiceAbstract.MAX_PAGE_LIMIT), taskExecutor, first.nextToken());
+        SseEmitter emitter = stream.getEmitter();
+        emitter.onCompletion(() -> changeStreams.remove(stream));
+        emitter.onError(e -> changeStreams.remove(stream));
+        try {
+            stream.send(first);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        changeStreams.add(stream);
+        stream.schedule();
+        return emitter;
+    }
+
+    /**
+     * Agenda o envio das alterações confirmadas da entidade deste controlador aos streams abertos
+     * @param event alteração confirmada
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEntityChange(EntityChangeEvent event) {
+        if (event.entityClass() == service.getEntityClass()) {
+            changeStreams.forEach(ChangeStream::schedule);
+        }
+    }
+
+    /**
+     * Lê o registro exibido pelo {@link #findById} e usado como base do {@link #patch}. A leitura passa pelo cache do serviço
+     * ({@link GenericServiceAbstract#findVersioned}), que guarda o DTO e não a entidade; por padrão o DTO é montado
+     * carregando a entidade pelo serviço e convertendo-a pelo mapeador, e os controladores podem sobrescrever
+     * este método para montá-lo direto de uma consulta
+     * @param id identificador do registro
+     * @return registro e a sua versão
+     */
+    protected Versioned<DTO> readById(PK id) {
+        return service.findVersioned(id, key -> {
+            T entity = service.findById(key).orElseThrow();
+            return new Versioned<>(timers().map(() -> mapper.toDto(entity)), service.getVersion(entity));
+        });
+    }
+
+    /**
+     * Lê as alterações posteriores ao token e os registros incluídos ou alterados
+     * Um registro incluído ou alterado que não existe mais é enviado como excluído, pois a sua exclusão está mais adiante no log.
+     * Os registros lidos são associados às alterações pelo id do DTO, convertido para o tipo do identificador
+     * @param token token da leitura anterior
+     * @param limit quantidade máxima de alterações lidas do log
+     * @return alterações e o token da próxima leitura
+     */
+    private ChangeFeedDTO<PK, DTO> readChanges(String token, int limit) {
+        ChangePage<PK> page = service.findChanges(token, limit);
+        List<PK> upserted = new ArrayList<>(page.changes().size());
+        for (Change<PK> change : page.changes()) {
+            if (change.type() == EntityChange.Type.UPSERT) {
+                upserted.add(change.id());
+            }
+        }
+        Map<PK, DTO> dtos = new HashMap<>();
+        if (!upserted.isEmpty()) {
+            ConversionService conversionService = DefaultConversionService.getSharedInstance();
+            readAllById(upserted).forEach(dto -> dtos.put(conversionService.convert(dto.getId(), idClass), dto));
+        }
+        List<ChangeDTO<PK, DTO>> changes = new ArrayList<>(page.changes().size());
+        for (Change<PK> change : page.changes()) {
+            DTO dto = change.type() == EntityChange.Type.UPSERT ? dtos.get(change.id()) : null;
+            EntityChange.Type type = dto == null ? EntityChange.Type.DELETE : EntityChange.Type.UPSERT;
+            changes.add(new ChangeDTO<>(change.token(), type.name(), change.id(), dto));
+        }
+        return new ChangeFeedDTO<>(changes, page.nextToken());
+    }
+
+    /**
+     * Lê os registros com os ids fornecidos, enviados nas alterações. Por padrão carrega as entidades pelo serviço
+     * e as converte pelo mapeador; os controladores podem sobrescrever este método para montar os DTOs direto de uma consulta
+     * @param ids identificadores dos registros
+     * @return registros encontrados, em qualquer ordem
+     */
+    protected List<DTO> readAllById(List<PK> ids) {
+        List<T> entities = service.findAllById(ids);
+        return timers().map(() -> mapper.toDtos(entities));
+    }
+
+    /**
+     * Lê os registros exibidos pelo {@link #findAll}. Por padrão carrega as entidades pelo serviço e as converte pelo mapeador;
+     * os controladores podem sobrescrever este método para montar os DTOs direto de uma consulta
+     * @return lista de registros
+     */
+    protected List<DTO> readAll() {
+        List<T> entities = service.findAll();
+        return timers().map(() -> mapper.toDtos(entities));
+    }
+
+    /**
+     * Método para buscar os registros paginados por chave
+     * @param after cursor opaco retornado pela página anterior
+     * @param limit quantidade máxima de registros
+     * @return página de registros com o cursor da próxima página
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<PageDTO<DTO>> findPage(@RequestParam(required = false) String after, @RequestParam int limit) {
+        KeysetPage<T> page = service.findPage(after, limit);
+        return ResponseEntity.ok(new PageDTO<>(timers().map(() -> mapper.toDtos(page.content())), page.nextCursor()));
+    }
+
+    /**
+     * Método para exportar todos os registros em NDJSON (um registro JSON por linha)
+     * Os registros são lidos por cursor e escritos direto na resposta, sem montar a lista completa em memória
+     * @return corpo da resposta em streaming
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = outputStream -> {
+            ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                service.exportAll(entity -> {
+                    try {
+                        writer.writeValue(generator, mapper.toDto(entity));
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Confere o cabeçalho If-Match com o ETag da versão atual do registro
+     * Um único ETag forte é convertido direto na versão esperada, conferida pelo serviço na mesma leitura que grava
+     * ou exclui o registro; para {@code *} ou uma lista de ETags, a versão atual é consultada antes
+     * @param id identificador do registro
+     * @param ifMatch ETags aceitos, ou null quando o cabeçalho não foi enviado
+     * @return versão esperada do registro, ou null quando não há versão a conferir
+     */
+    private Long expectedVersion(PK id, String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+        Long expected = ETagUtil.parseVersion(ifMatch);
+        if (expected != null) {
+            return expected;
+        }
+        Long version = service.findVersion(id);
+        if (version != null && !ETagUtil.matches(ifMatch, ETagUtil.format(version), true)) {
+            throw new CustomException(HttpStatus.PRECONDITION_FAILED, messageSource.getMessage("error.preconditionFailed",
+                    new Object[]{service.getEntityClass().getSimpleName(), id}, LocaleContextHolder.getLocale()));
+        }
+        return version;
+    }
+
+    /**
+     * Adiciona o ETag da versão do registro à resposta, quando o registro possui versão
+     * @param builder resposta
+     * @param entity registro
+     * @return resposta
+     */
+    private ResponseEntity.BodyBuilder withETag(ResponseEntity.BodyBuilder builder, T entity) {
+        return withETag(builder, service.getVersion(entity));
+    }
+
+    /**
+     * Adiciona o ETag da versão informada à resposta
+     * @param builder resposta
+     * @param version versão do registro, ou null quando o registro não possui versão
+     * @return resposta
+     */
+    private ResponseEntity.BodyBuilder withETag(ResponseEntity.BodyBuilder builder, Long version) {
+        String eTag = ETagUtil.format(version);
+        return eTag == null ? builder : builder.eTag(eTag);
+    }
+
+    /**
+     * Converte o documento JSON resultante de um patch no DTO deste controlador
+     * @param json documento JSON
+     * @return DTO
+     */
+    @SuppressWarnings("unchecked")
+    private DTO toDto(JsonNode json) {
+        try {
+            return (DTO) objectMapper.treeToValue(json, dtoClass);
+        } catch (JsonProcessingException e) {
+            throw new InvalidFieldException(HttpStatus.BAD_REQUEST, e.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Recupera os timers das fases da entidade deste controlador
+     * @return timers da entidade
+     */
+    protected PhaseTimers timers() {
+        return entityMetrics.timersFor(service.getEntityClass());
+    }
+
+    /**
+     * Monta os erros de cada campo das violações de um item, no mesmo formato do {@code ControllerExceptionHandler}
+     * @param violations violações do item
+     * @return erros dos campos, ordenados pelo campo
+     */
+    private List<FieldErrorDTO> fieldErrors(Set<ConstraintViolation<DTO>> violations) {
+        List<FieldErrorDTO> errors = new ArrayList<>(violations.size());
+        for (ConstraintViolation<DTO> violation : violations) {
+            errors.add(new FieldErrorDTO(violation.getPropertyPath().toString(), message(violation.getMessage())));
+        }
+        errors.sort(Comparator.comparing(FieldErrorDTO::field));
+        return errors;
+    }
+
+    private String message(String key) {
+        return messageSource.getMessage(key, null, key, LocaleContextHolder.getLocale());
+    }
+}
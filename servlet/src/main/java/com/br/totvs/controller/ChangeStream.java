@@ -0,0 +1,75 @@
+package com.br.totvs.controller;
+
+import com.br.totvs.dto.ChangeDTO;
+import com.br.totvs.dto.ChangeFeedDTO;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Assinatura de um cliente no stream de alterações (Server-Sent Events).
+ * A cada alteração confirmada o stream é agendado e lê o log a partir do último token enviado, então os eventos
+ * chegam na ordem do log, sem repetições, mesmo quando as transações terminam fora de ordem.
+ * O id de cada evento é o token da alteração, que o navegador reenvia no cabeçalho Last-Event-ID ao reconectar
+ *
+ * @param <K> tipo do identificador
+ * @param <D> dto
+ */
+final class ChangeStream<K, D> {
+
+    static final String EVENT_NAME = "change";
+
+    private final SseEmitter emitter;
+    private final Function<String, ChangeFeedDTO<K, D>> reader;
+    private final Executor executor;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private String token;
+
+    ChangeStream(SseEmitter emitter, Function<String, ChangeFeedDTO<K, D>> reader, Executor executor, String token) {
+        this.emitter = emitter;
+        this.reader = reader;
+        this.executor = executor;
+        this.token = token;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    /**
+     * Agenda a leitura das alterações ainda não enviadas, se ela já não estiver agendada
+     */
+    void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Envia as alterações lidas e avança o token do stream
+     * @param page alterações lidas
+     * @throws IOException caso o cliente tenha desconectado
+     */
+    synchronized void send(ChangeFeedDTO<K, D> page) throws IOException {
+        for (ChangeDTO<K, D> change : page.changes()) {
+            emitter.send(SseEmitter.event().id(change.token()).name(EVENT_NAME).data(change));
+        }
+        token = page.nextToken();
+    }
+
+    private synchronized void drain() {
+        scheduled.set(false);
+        try {
+            ChangeFeedDTO<K, D> page;
+            do {
+                page = reader.apply(token);
+                send(page);
+            } while (!page.changes().isEmpty());
+        } catch (IOException | RuntimeException e) {
+            emitter.completeWithError(e);
+        }
+    }
+}
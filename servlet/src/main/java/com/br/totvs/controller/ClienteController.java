@@ -0,0 +1,104 @@
+package com.br.totvs.controller;
+
+import com.br.totvs.dto.ClienteDTO;
+import com.br.totvs.dto.PageDTO;
+import com.br.totvs.mapper.ClienteMapper;
+import com.br.totvs.model.Cliente;
+import com.br.totvs.repository.projection.ClienteTelefoneLinha;
+import com.br.totvs.service.ClienteService;
+import com.br.totvs.service.batch.BulkDeleteResult;
+import com.br.totvs.service.cache.Versioned;
+import com.br.totvs.service.page.KeysetPage;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controller para cliente
+ * para operações de banco de dados
+ * As leituras montam os DTOs direto das linhas de cliente e telefone, sem carregar as entidades
+ * {@link RestController}
+ */
+@RestController
+@RequestMapping("/api/v1/clientes")
+@Validated
+public class ClienteController extends AbstractController<Cliente, ClienteDTO, Long, ClienteService, ClienteMapper> {
+
+    private static final String DEFAULT_SEARCH_LIMIT = "20";
+
+    public ClienteController(ClienteService service, ClienteMapper mapper) {
+        super(service, mapper);
+    }
+
+    /**
+     * Lê o cliente pelo cache de clientes, que guarda o DTO montado das linhas de cliente e telefone:
+     * um acerto não consulta o banco, e uma falta (ou o cache desabilitado) usa uma única consulta, sem carregar as entidades
+     * @param id identificador do cliente
+     * @return cliente e a sua versão
+     */
+    @Override
+    protected Versioned<ClienteDTO> readById(Long id) {
+        return service.findVersioned(id, key -> {
+            List<ClienteTelefoneLinha> linhas = service.findLinhasById(key);
+            return new Versioned<>(timers().map(() -> mapper.linhasToDtos(linhas).get(0)), linhas.get(0).versao());
+        });
+    }
+
+    /**
+     * Lê todos os clientes pelas linhas de cliente e telefone, em uma única consulta e sem carregar as entidades
+     * @return lista de clientes
+     */
+    @Override
+    protected List<ClienteDTO> readAll() {
+        List<ClienteTelefoneLinha> linhas = service.findAllLinhas();
+        return timers().map(() -> mapper.linhasToDtos(linhas));
+    }
+
+    /**
+     * Lê os clientes enviados nas alterações pelas linhas de cliente e telefone, em uma única consulta
+     * @param ids identificadores dos clientes
+     * @return clientes encontrados
+     */
+    @Override
+    protected List<ClienteDTO> readAllById(List<Long> ids) {
+        List<ClienteTelefoneLinha> linhas = service.findLinhasByIds(ids);
+        return timers().map(() -> mapper.linhasToDtos(linhas));
+    }
+
+    /**
+     * Exclui em lote os clientes que atendem aos filtros nome, bairro e telefone, os mesmos de {@link #search}
+     * @param filter parâmetros da requisição
+     * @return quantidade de clientes excluídos
+     */
+    @Override
+    protected BulkDeleteResult<Long> deleteByFilter(Map<String, String> filter) {
+        return service.deleteAll(filter.get("nome"), filter.get("bairro"), filter.get("telefone"));
+    }
+
+    /**
+     * Método para buscar os clientes por prefixo do nome, bairro e prefixo do telefone, paginados por chave
+     * @param nome prefixo do nome, sem distinção de maiúsculas e acentos (opcional)
+     * @param bairro bairro (opcional)
+     * @param telefone prefixo do telefone, com ou sem formatação (opcional)
+     * @param after cursor opaco retornado pela página anterior
+     * @param limit quantidade máxima de registros
+     * @return página de clientes com o cursor da próxima página
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PageDTO<ClienteDTO>> search(@RequestParam(required = false) String nome,
+                                                      @RequestParam(required = false) String bairro,
+                                                      @RequestParam(required = false) String telefone,
+                                                      @RequestParam(required = false) String after,
+                                                      @RequestParam(defaultValue = DEFAULT_SEARCH_LIMIT) int limit) {
+        KeysetPage<Cliente> page = service.search(nome, bairro, telefone, after, limit);
+        return ResponseEntity.ok(new PageDTO<>(timers().map(() -> mapper.toDtos(page.content())), page.nextCursor()));
+    }
+
+}
\ No newline at end of file
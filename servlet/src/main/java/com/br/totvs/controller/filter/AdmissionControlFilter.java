@@ -0,0 +1,133 @@
+package com.br.totvs.controller.filter;
+
+import com.br.totvs.service.concurrency.AimdLimiter;
+import com.br.totvs.service.message.MessageService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Controle de admissão das requisições da API ({@code /api/**}), na frente do pool de conexões.
+ * <p>
+ * As leituras ({@code GET} e {@code HEAD}) e as gravações (demais métodos) possuem cada uma um {@link AimdLimiter},
+ * configurado por {@code app.admission.<read|write>.initial-limit|min-limit|max-limit|backoff-ratio|latency-threshold}.
+ * Acima do limite a requisição é rejeitada imediatamente com 503 e {@code Retry-After}
+ * ({@code app.admission.retry-after}), em vez de aguardar uma conexão e aumentar a latência de todas as demais.
+ * Respostas 5xx e exceções contam como sobrecarga. Habilitado por {@code app.admission.enabled}.
+ * Executado antes do {@link ConnectionBulkheadFilter}, de modo que uma requisição rejeitada aqui não aguarda uma permissão.
+ * <p>
+ * Métricas (tag {@code class}): {@code admission.limit}, {@code admission.inflight} e {@code admission.rejected}.
+ *
+ * @author guilherme-oliveria
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final String API_PATH = "/api/";
+
+    private final boolean enabled;
+    private final AdmissionClass read;
+    private final AdmissionClass write;
+    private final String retryAfterSeconds;
+    private final MessageService messageService;
+    private final ObjectMapper objectMapper;
+
+    public AdmissionControlFilter(Environment environment, MessageService messageService, ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.enabled = environment.getProperty("app.admission.enabled", Boolean.class, false);
+        this.read = AdmissionClass.register("read", environment, meterRegistry, 20, 200, Duration.ofMillis(250));
+        this.write = AdmissionClass.register("write", environment, meterRegistry, 10, 100, Duration.ofMillis(500));
+        this.retryAfterSeconds = Long.toString(Math.max(1, duration(environment.getProperty("app.admission.retry-after"), Duration.ofSeconds(1)).toSeconds()));
+        this.messageService = messageService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || HttpMethod.OPTIONS.matches(request.getMethod())
+                || !request.getRequestURI().startsWith(request.getContextPath() + API_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AdmissionClass admissionClass = HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())
+                ? read : write;
+        AimdLimiter.Permit permit = admissionClass.limiter.tryAcquire();
+        if (permit == null) {
+            admissionClass.rejected.increment();
+            reject(response);
+            return;
+        }
+
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            if (request.isAsyncStarted()) {
+                // streaming e SSE: a thread é liberada antes do fim da resposta, então a duração não é uma amostra válida
+                permit.release();
+            } else {
+                permit.release(dropped);
+            }
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        FilterErrorResponse.serviceUnavailable(response, objectMapper, messageService.getMessage("error.serviceUnavailable"), retryAfterSeconds);
+    }
+
+    private static Duration duration(String value, Duration defaultValue) {
+        return value == null ? defaultValue : DurationStyle.detectAndParse(value);
+    }
+
+    /**
+     * Limite e métricas de uma classe de requisições.
+     */
+    private record AdmissionClass(AimdLimiter limiter, Counter rejected) {
+
+        static AdmissionClass register(String name, Environment environment, MeterRegistry meterRegistry,
+                                       int defaultInitialLimit, int defaultMaxLimit, Duration defaultLatencyThreshold) {
+            String prefix = "app.admission." + name + ".";
+            AimdLimiter limiter = new AimdLimiter(
+                    environment.getProperty(prefix + "initial-limit", Integer.class, defaultInitialLimit),
+                    environment.getProperty(prefix + "min-limit", Integer.class, 1),
+                    environment.getProperty(prefix + "max-limit", Integer.class, defaultMaxLimit),
+                    environment.getProperty(prefix + "backoff-ratio", Double.class, 0.9),
+                    duration(environment.getProperty(prefix + "latency-threshold"), defaultLatencyThreshold).toNanos());
+
+            Gauge.builder("admission.limit", limiter, AimdLimiter::getLimit)
+                    .description("Limite atual de requisições simultâneas")
+                    .tag("class", name)
+                    .register(meterRegistry);
+            Gauge.builder("admission.inflight", limiter, AimdLimiter::getInflight)
+                    .description("Requisições em andamento")
+                    .tag("class", name)
+                    .register(meterRegistry);
+            Counter rejected = Counter.builder("admission.rejected")
+                    .description("Requisições rejeitadas pelo limite de concorrência")
+                    .tag("class", name)
+                    .register(meterRegistry);
+            return new AdmissionClass(limiter, rejected);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.br.totvs.controller.filter;
+
+import com.br.totvs.service.concurrency.ConnectionBulkhead;
+import com.br.totvs.service.message.MessageService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Aplica o {@link ConnectionBulkhead} às requisições da API ({@code /api/**}), leituras e gravações.
+ * <p>
+ * A permissão é obtida aqui, antes do {@code DispatcherServlet}, e portanto antes de qualquer transação
+ * ou do {@code EntityManager} da requisição: a requisição aguarda sem segurar uma conexão e usa no máximo
+ * uma conexão enquanto tem a permissão. Com {@code app.bulkhead.permits} igual ao tamanho do pool,
+ * nenhuma requisição aguarda o pool nem falha pelo seu timeout. Uma requisição que não obtém permissão em
+ * {@code app.bulkhead.timeout} recebe 503 com {@code Retry-After} ({@code app.bulkhead.retry-after}).
+ * Habilitado por {@code app.bulkhead.enabled}.
+ * <p>
+ * As respostas assíncronas que leem o banco até o fim da resposta (ex.: a exportação em streaming) mantêm
+ * a permissão até a conclusão; os streams de eventos ({@code text/event-stream}), que ficam abertos sem usar
+ * uma conexão entre as leituras, a liberam ao fim do processamento inicial.
+ *
+ * @author guilherme-oliveria
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class ConnectionBulkheadFilter extends OncePerRequestFilter {
+
+    private static final String API_PATH = "/api/";
+
+    private final ConnectionBulkhead bulkhead;
+    private final String retryAfterSeconds;
+    private final MessageService messageService;
+    private final ObjectMapper objectMapper;
+
+    public ConnectionBulkheadFilter(Environment environment, MessageService messageService, ObjectMapper objectMapper) {
+        this.bulkhead = environment.getProperty("app.bulkhead.enabled", Boolean.class, false)
+                ? new ConnectionBulkhead(environment.getProperty("app.bulkhead.permits", Integer.class, 10),
+                        duration(environment.getProperty("app.bulkhead.timeout"), Duration.ofSeconds(2)).toNanos())
+                : null;
+        this.retryAfterSeconds = Long.toString(Math.max(1, duration(environment.getProperty("app.bulkhead.retry-after"), Duration.ofSeconds(1)).toSeconds()));
+        this.messageService = messageService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return bulkhead == null
+                || HttpMethod.OPTIONS.matches(request.getMethod())
+                || !request.getRequestURI().startsWith(request.getContextPath() + API_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!bulkhead.tryAcquire()) {
+            FilterErrorResponse.serviceUnavailable(response, objectMapper, messageService.getMessage("error.serviceUnavailable"), retryAfterSeconds);
+            return;
+        }
+
+        boolean releaseNow = true;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted() && !isEventStream(response)) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete());
+                releaseNow = false;
+            }
+        } finally {
+            if (releaseNow) {
+                bulkhead.release();
+            }
+        }
+    }
+
+    private static boolean isEventStream(HttpServletResponse response) {
+        String contentType = response.getContentType();
+        return contentType != null && MediaType.TEXT_EVENT_STREAM.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    private static Duration duration(String value, Duration defaultValue) {
+        return value == null ? defaultValue : DurationStyle.detectAndParse(value);
+    }
+
+    /**
+     * Libera a permissão de uma requisição assíncrona, uma única vez, ao fim da resposta.
+     */
+    private final class ReleaseOnComplete implements AsyncListener {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // um novo ciclo assíncrono remove os listeners registrados, então este é registrado novamente
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.release();
+            }
+        }
+    }
+}
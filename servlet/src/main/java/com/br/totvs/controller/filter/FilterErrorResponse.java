@@ -0,0 +1,43 @@
+package com.br.totvs.controller.filter;
+
+import com.br.totvs.dto.ErrorResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Escreve as respostas de erro dos filtros, que rejeitam a requisição antes do {@code ControllerExceptionHandler},
+ * no mesmo formato ({@link ErrorResponseDTO}) das demais respostas de erro da API.
+ *
+ * @author guilherme-oliveria
+ */
+final class FilterErrorResponse {
+
+    private FilterErrorResponse() {
+    }
+
+    /**
+     * Escreve a resposta 503 de uma requisição rejeitada por sobrecarga.
+     *
+     * @param response          a resposta
+     * @param objectMapper      o conversor do corpo
+     * @param message           a mensagem do erro
+     * @param retryAfterSeconds o valor do cabeçalho {@code Retry-After}
+     */
+    static void serviceUnavailable(HttpServletResponse response, ObjectMapper objectMapper, String message,
+                                   String retryAfterSeconds) throws IOException {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        ErrorResponseDTO errorResponse = new ErrorResponseDTO(LocalDateTime.now(), status.value(), status.getReasonPhrase(), message);
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
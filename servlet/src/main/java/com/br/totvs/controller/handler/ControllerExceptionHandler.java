@@ -1,8 +1,11 @@
 package com.br.totvs.controller.handler;
 
 import com.br.totvs.dto.ErrorResponseDTO;
+import com.br.totvs.dto.FieldErrorDTO;
 import com.br.totvs.exception.CustomException;
 import com.br.totvs.exception.InvalidFieldException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
@@ -15,8 +18,9 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 
 /**
  * Classe para tratamento de exceções
@@ -42,23 +46,33 @@ public class ControllerExceptionHandler {
     }
 
     /**
-     * Método para tratar exceções de campos inválidos
+     * Método para tratar exceções de campos inválidos do corpo da requisição
      * @param ex exceção
-     * @return {@link ResponseEntity} com a mensagem de erro
+     * @return {@link ResponseEntity} com a mensagem de erro e um item por campo inválido
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<ErrorResponseDTO> handleMethodArgumentNotValid(MethodArgumentNotValidException ex) {
-        Map<String, String> errors = new HashMap<>();
-        ex.getBindingResult().getAllErrors().forEach((error) -> {
-            String fieldName = ((FieldError) error).getField();
-            String errorMessage = messageSource.getMessage(error, LocaleContextHolder.getLocale());
-            errors.put(fieldName, errorMessage);
-        });
-
-        ErrorResponseDTO errorResponse = new ErrorResponseDTO(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(), "Validation Error", errors.toString());
+        List<FieldErrorDTO> errors = new ArrayList<>();
+        for (FieldError error : ex.getBindingResult().getFieldErrors()) {
+            errors.add(new FieldErrorDTO(error.getField(), message(error.getDefaultMessage())));
+        }
+        return validationError(errors);
+    }
 
-        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    /**
+     * Método para tratar exceções de campos inválidos validados pela aplicação (ex.: o documento resultante de um patch)
+     * @param ex exceção
+     * @return {@link ResponseEntity} com a mensagem de erro e um item por campo inválido
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<ErrorResponseDTO> handleConstraintViolation(ConstraintViolationException ex) {
+        List<FieldErrorDTO> errors = new ArrayList<>();
+        for (ConstraintViolation<?> violation : ex.getConstraintViolations()) {
+            errors.add(new FieldErrorDTO(violation.getPropertyPath().toString(), message(violation.getMessage())));
+        }
+        return validationError(errors);
     }
 
     /**
@@ -85,4 +99,16 @@ public class ControllerExceptionHandler {
 
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<ErrorResponseDTO> validationError(List<FieldErrorDTO> errors) {
+        errors.sort(Comparator.comparing(FieldErrorDTO::field));
+        ErrorResponseDTO errorResponse = new ErrorResponseDTO(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(), "Validation Error",
+                message("error.validation"), errors);
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    private String message(String key) {
+        return key == null ? null : messageSource.getMessage(key, null, key, LocaleContextHolder.getLocale());
+    }
+}
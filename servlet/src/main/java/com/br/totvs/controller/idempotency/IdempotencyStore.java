@@ -0,0 +1,163 @@
+package com.br.totvs.controller.idempotency;
+
+import com.br.totvs.exception.CustomException;
+import com.br.totvs.exception.InvalidFieldException;
+import com.br.totvs.service.message.MessageService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Guarda as respostas das requisições enviadas com o cabeçalho {@code Idempotency-Key}, de modo que a repetição
+ * de uma requisição (ex.: um novo envio após um timeout) recebe a resposta da primeira execução sem executá-la novamente.
+ * <p>
+ * Cada chave guarda a requisição que a usou primeiro e o futuro da sua resposta, em um cache limitado a
+ * {@code app.idempotency.maximum-size} chaves e expirado {@code app.idempotency.ttl} depois da primeira requisição.
+ * Uma repetição que chega enquanto a primeira ainda está em execução aguarda essa execução
+ * (no máximo {@code app.idempotency.wait-timeout}) em vez de ser executada em paralelo.
+ * As respostas de sucesso e os erros 4xx são guardados; nos demais erros (ex.: 500) a chave é liberada
+ * para que a requisição possa ser repetida. O cache publica as métricas {@code cache.*} com a tag {@code cache=idempotency}.
+ *
+ * @author guilherme-oliveria
+ */
+@Component
+public class IdempotencyStore {
+
+    /**
+     * Cabeçalho com a chave de idempotência enviada pelo cliente
+     */
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+    /**
+     * Cabeçalho incluído nas respostas reaproveitadas de uma execução anterior
+     */
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<String, IdempotentRequest> requests;
+    private final long waitTimeoutNanos;
+    private final MessageService messageService;
+
+    @Autowired
+    public IdempotencyStore(@Value("${app.idempotency.maximum-size:10000}") long maximumSize,
+                            @Value("${app.idempotency.ttl:24h}") Duration ttl,
+                            @Value("${app.idempotency.wait-timeout:10s}") Duration waitTimeout,
+                            MessageService messageService, MeterRegistry meterRegistry) {
+        this.requests = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+        this.messageService = messageService;
+        CaffeineCacheMetrics.monitor(meterRegistry, requests, "idempotency");
+    }
+
+    /**
+     * Executa a requisição fornecida uma única vez por chave de idempotência.
+     * Sem chave, a requisição é sempre executada.
+     *
+     * @param scope       a operação da requisição (ex.: o controlador e o método), para que a mesma chave
+     *                    possa ser usada em operações diferentes
+     * @param key         a chave de idempotência enviada pelo cliente, ou null
+     * @param fingerprint os dados da requisição (id, corpo e cabeçalhos relevantes), comparados por {@code equals}
+     *                    para rejeitar o reuso da chave em uma requisição diferente
+     * @param action      a execução da requisição
+     * @return a resposta da execução, ou a resposta guardada com o cabeçalho {@link #IDEMPOTENT_REPLAYED_HEADER}
+     * @throws InvalidFieldException com status 400 caso a chave seja inválida, 422 caso a chave já tenha sido usada
+     *                               em uma requisição diferente e 409 caso a primeira execução não termine no tempo limite
+     */
+    public <R> ResponseEntity<R> execute(String scope, String key, Object fingerprint, Supplier<ResponseEntity<R>> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidFieldException(HttpStatus.BAD_REQUEST, messageService.getMessage("error.invalidIdempotencyKey", MAX_KEY_LENGTH));
+        }
+        String cacheKey = scope + ' ' + key;
+        IdempotentRequest request = new IdempotentRequest(fingerprint, new CompletableFuture<>());
+        IdempotentRequest first = requests.asMap().putIfAbsent(cacheKey, request);
+        if (first != null) {
+            if (!Objects.equals(first.fingerprint(), fingerprint)) {
+                throw new InvalidFieldException(HttpStatus.UNPROCESSABLE_ENTITY, messageService.getMessage("error.idempotencyKeyReused"));
+            }
+            return replay(await(first));
+        }
+
+        try {
+            ResponseEntity<R> response = action.get();
+            request.response().complete(response);
+            return response;
+        } catch (Throwable e) {
+            // qualquer falha (inclusive um Error) conclui o futuro, para que as repetições em espera não fiquem presas
+            if (!isClientError(e)) {
+                requests.asMap().remove(cacheKey, request);
+            }
+            request.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private ResponseEntity<?> await(IdempotentRequest first) {
+        try {
+            return first.response().get(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, messageService.getMessage("error.unexpectedError", cause.getMessage()), cause);
+        } catch (TimeoutException e) {
+            throw new InvalidFieldException(HttpStatus.CONFLICT, messageService.getMessage("error.idempotencyInProgress"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(HttpStatus.SERVICE_UNAVAILABLE, messageService.getMessage("error.serviceUnavailable"));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> ResponseEntity<R> replay(ResponseEntity<?> response) {
+        return (ResponseEntity<R>) ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .header(IDEMPOTENT_REPLAYED_HEADER, "true")
+                .body(response.getBody());
+    }
+
+    private static boolean isClientError(Throwable e) {
+        HttpStatusCode status = null;
+        if (e instanceof CustomException customException) {
+            status = customException.getErrorCode();
+        } else if (e instanceof InvalidFieldException invalidFieldException) {
+            status = invalidFieldException.getErrorCode();
+        }
+        return status != null && status.is4xxClientError();
+    }
+
+    /**
+     * Primeira requisição de uma chave de idempotência.
+     *
+     * @param fingerprint os dados da requisição
+     * @param response    a resposta, concluída ao fim da execução (com a exceção, em caso de erro)
+     */
+    private record IdempotentRequest(Object fingerprint, CompletableFuture<ResponseEntity<?>> response) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.br.totvs.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Classe que representa o erro de um item de uma operação em lote.
+ * Nos erros de validação, {@code errors} traz um item por campo inválido, como no {@link ErrorResponseDTO}.
+ */
+public record BatchErrorDTO(
+        int index,
+        int status,
+        String error,
+        String message,
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        List<FieldErrorDTO> errors
+) {
+
+    public BatchErrorDTO(int index, int status, String error, String message) {
+        this(index, status, error, message, List.of());
+    }
+}
@@ -0,0 +1,12 @@
+package com.br.totvs.dto;
+
+import java.util.List;
+
+/**
+ * Classe que representa o resultado de uma criação em lote
+ * para operações de api rest
+ */
+public record BatchResultDTO<D>(
+        List<D> created,
+        List<BatchErrorDTO> errors
+) {}
@@ -0,0 +1,12 @@
+package com.br.totvs.dto;
+
+import java.util.List;
+
+/**
+ * Classe que representa o resultado de uma exclusão em lote
+ * para operações de api rest
+ */
+public record BulkDeleteResultDTO<K>(
+        int deleted,
+        List<K> missing
+) {}
@@ -0,0 +1,13 @@
+package com.br.totvs.dto;
+
+/**
+ * Classe que representa a alteração de um registro
+ * para operações de api rest
+ * Nas exclusões (type DELETE) o registro não é enviado
+ */
+public record ChangeDTO<K, D>(
+        String token,
+        String type,
+        K id,
+        D data
+) {}
@@ -0,0 +1,12 @@
+package com.br.totvs.dto;
+
+import java.util.List;
+
+/**
+ * Classe que representa as alterações dos registros a partir de um token
+ * para operações de api rest
+ */
+public record ChangeFeedDTO<K, D>(
+        List<ChangeDTO<K, D>> changes,
+        String nextToken
+) {}
@@ -0,0 +1,12 @@
+package com.br.totvs.dto;
+
+import java.util.List;
+
+/**
+ * Classe que representa uma página de registros
+ * para operações de api rest
+ */
+public record PageDTO<D>(
+        List<D> content,
+        String nextCursor
+) {}
@@ -0,0 +1,58 @@
+package com.br.totvs.mapper;
+
+import com.br.totvs.dto.ClienteDTO;
+import com.br.totvs.dto.TelefoneClienteDTO;
+import com.br.totvs.model.Cliente;
+import com.br.totvs.repository.projection.ClienteTelefoneLinha;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mapper para cliente
+ * para conversão de DTO para entidade e vice-versa
+ * {@link Mapper}
+ */
+@Mapper(componentModel = "spring")
+public interface ClienteMapper extends EntityMapper<Cliente, ClienteDTO> {
+
+    /**
+     * A versão não trafega no corpo: ela é enviada no ETag e conferida pelo If-Match.
+     * O nome de busca é derivado do nome na validação e na gravação
+     */
+    @Override
+    @Mapping(target = "versao", ignore = true)
+    @Mapping(target = "nomeBusca", ignore = true)
+    Cliente toEntity(ClienteDTO dto);
+
+    /**
+     * Monta os DTOs a partir das linhas de cliente e telefone, sem passar pelas entidades.
+     * As linhas de um mesmo cliente devem estar em sequência, como retornadas pelo {@code ClienteRepository}
+     *
+     * @param linhas linhas ordenadas pelo id do cliente
+     * @return um DTO por cliente, na ordem das linhas
+     */
+    default List<ClienteDTO> linhasToDtos(List<ClienteTelefoneLinha> linhas) {
+        List<ClienteDTO> dtos = new ArrayList<>();
+        int inicio = 0;
+        while (inicio < linhas.size()) {
+            ClienteTelefoneLinha cliente = linhas.get(inicio);
+            int fim = inicio;
+            while (fim < linhas.size() && cliente.id().equals(linhas.get(fim).id())) {
+                fim++;
+            }
+            List<TelefoneClienteDTO> telefones = new ArrayList<>(fim - inicio);
+            for (int i = inicio; i < fim; i++) {
+                ClienteTelefoneLinha linha = linhas.get(i);
+                if (linha.telefoneId() != null) {
+                    telefones.add(new TelefoneClienteDTO(linha.telefoneId(), linha.numero(), linha.numeroChave()));
+                }
+            }
+            dtos.add(new ClienteDTO(cliente.id(), cliente.nome(), cliente.endereco(), cliente.bairro(), telefones));
+            inicio = fim;
+        }
+        return dtos;
+    }
+}
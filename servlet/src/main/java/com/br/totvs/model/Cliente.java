@@ -1,7 +1,11 @@
 package com.br.totvs.model;
 
+import com.br.totvs.model.interfaces.Derived;
+import com.br.totvs.service.index.ClienteUniquenessIndexListener;
+import com.br.totvs.util.Util;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
+import org.hibernate.annotations.OptimisticLock;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,12 +26,23 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "tb_cliente")
+@EntityListeners(ClienteUniquenessIndexListener.class)
+@Table(name = "tb_cliente",
+        uniqueConstraints = @UniqueConstraint(name = "uk_cliente_nome", columnNames = "nome"),
+        indexes = {
+                @Index(name = "idx_cliente_nome_busca", columnList = "nome_busca, id"),
+                @Index(name = "idx_cliente_bairro", columnList = "bairro, id")
+        })
 @SequenceGenerator(name = Cliente.SEQUENCE_NAME,
-        sequenceName = Cliente.SEQUENCE_NAME, initialValue = 1, allocationSize = 1)
+        sequenceName = Cliente.SEQUENCE_NAME, initialValue = 1, allocationSize = Cliente.ALLOCATION_SIZE)
 public class Cliente implements Entity {
 
     public static final String SEQUENCE_NAME = "seq_cliente";
+    /**
+     * Quantidade de ids reservados por acesso à sequence (otimizador pooled),
+     * igual ao tamanho do lote JDBC (hibernate.jdbc.batch_size).
+     */
+    public static final int ALLOCATION_SIZE = 50;
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SEQUENCE_NAME)
@@ -35,15 +50,38 @@ public class Cliente implements Entity {
     private Long id;
     @Column(name = "nome", nullable = false,length = 500)
     private String nome;
+    /**
+     * Nome normalizado (minúsculo e sem acentos), usado na busca por prefixo.
+     * Calculado somente por {@link #atualizarNomeBusca()}.
+     */
+    @Derived
+    @Column(name = "nome_busca", length = 500)
+    private String nomeBusca;
     @Column(name = "endereco")
     private String endereco;
     @Column(name = "bairro")
     private String bairro;
+    /**
+     * Versão para controle de concorrência otimista, incrementada a cada gravação e usada como ETag.
+     */
+    @Version
+    @Column(name = "versao")
+    private Long versao;
     @OneToMany(mappedBy = "cliente", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @OptimisticLock(excluded = false)
     @JsonManagedReference
     private List<TelefoneCliente> telefoneClienteList;
 
 
+    /**
+     * Atualiza o nome normalizado a partir do nome antes de cada gravação.
+     */
+    @PrePersist
+    @PreUpdate
+    public void atualizarNomeBusca() {
+        this.nomeBusca = Util.normalizeForSearch(this.nome);
+    }
+
     /**
      * Adiciona um telefone à lista de telefones do cliente.
      *
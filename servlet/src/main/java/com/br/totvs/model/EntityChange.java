@@ -0,0 +1,48 @@
+package com.br.totvs.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Esta classe representa uma alteração gravada no log de alterações das entidades.
+ * A sequência é crescente entre todas as entidades e é atribuída pelo {@code ChangeFeed} na transação da gravação,
+ * de modo que a alteração só fica visível junto com os dados que ela descreve.
+ *
+ * @author guilherme-oliveria
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "tb_entity_change", indexes = {
+        @Index(name = "idx_entity_change_entidade", columnList = "entidade, sequencia")
+})
+public class EntityChange {
+
+    /**
+     * Tipo da alteração: inclusão ou alteração (UPSERT) e exclusão (DELETE).
+     */
+    public enum Type {
+        UPSERT,
+        DELETE
+    }
+
+    @Id
+    @Column(name = "sequencia")
+    private Long sequencia;
+    @Column(name = "entidade", nullable = false, length = 100)
+    private String entidade;
+    @Column(name = "id_entidade", nullable = false, length = 100)
+    private String idEntidade;
+    @Enumerated(EnumType.STRING)
+    @Column(name = "tipo", nullable = false, length = 10)
+    private Type tipo;
+    @Column(name = "data_alteracao", nullable = false)
+    private Instant dataAlteracao;
+}
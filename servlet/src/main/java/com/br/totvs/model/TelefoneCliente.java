@@ -0,0 +1,85 @@
+package com.br.totvs.model;
+
+import com.br.totvs.model.interfaces.ChildEntity;
+import com.br.totvs.model.interfaces.NaturalKey;
+import com.br.totvs.service.index.ClienteUniquenessIndexListener;
+import com.fasterxml.jackson.annotation.JsonBackReference;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Esta classe representa a entidade TelefoneCliente no banco de dados.
+ * Ela inclui informações como id, número do telefone e a referência para a entidade Cliente.
+ * A classe implementa a interface ChildEntity, indicando que ela é uma entidade filha de Cliente.
+ *
+ * @author guilherme-oliveria
+ */
+@Entity
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(ClienteUniquenessIndexListener.class)
+@Table(name = "tb_telefone_cliente",
+        uniqueConstraints = @UniqueConstraint(name = "uk_telefone_cliente_numero_chave", columnNames = "numero_chave"),
+        indexes = @Index(name = "idx_telefone_cliente_numero_busca", columnList = "numero_busca, id_cliente"))
+@SequenceGenerator(name = TelefoneCliente.SEQUENCE_NAME,
+        sequenceName = TelefoneCliente.SEQUENCE_NAME, initialValue = 1, allocationSize = Cliente.ALLOCATION_SIZE)
+public class TelefoneCliente implements ChildEntity<Cliente>, Entity {
+
+    public static final String SEQUENCE_NAME = "seq_telefone_cliente";
+
+    @Id
+    @Column(name = "id")
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = SEQUENCE_NAME)
+    private Long id;
+    @Column(name = "numero", nullable = false)
+    private String numero;
+    /**
+     * Chave numérica canônica do número (apenas dígitos), usada nas consultas por telefone.
+     * Calculada uma única vez, na validação do serviço (ou reaproveitada do DTO), e não a cada gravação.
+     */
+    @NaturalKey
+    @Column(name = "numero_chave", nullable = false)
+    private Long numeroChave;
+    /**
+     * Dígitos do número em texto, usados na busca por prefixo: como texto, os números com um mesmo prefixo
+     * formam um único intervalo do índice, independente da quantidade de dígitos.
+     */
+    @Column(name = "numero_busca", length = 20)
+    private String numeroBusca;
+    @ManyToOne
+    @JoinColumn(name = "id_cliente", foreignKey = @ForeignKey(name = "fk_telefone_cliente"))
+    @JsonBackReference
+    private Cliente cliente;
+
+    /**
+     * Define a chave numérica e os dígitos de busca correspondentes.
+     *
+     * @param numeroChave a chave numérica
+     */
+    public void setNumeroChave(Long numeroChave) {
+        this.numeroChave = numeroChave;
+        this.numeroBusca = numeroChave == null ? null : numeroChave.toString();
+    }
+
+    @Override
+    public void setParent(Cliente cliente) {
+        this.cliente = cliente;
+    }
+
+    @Override
+    public String name() {
+        return this.getClass().getSimpleName();
+    }
+
+    @Override
+    public Class<? extends Annotation> annotationType() {
+        return this.getClass();
+    }
+}
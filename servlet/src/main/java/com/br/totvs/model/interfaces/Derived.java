@@ -0,0 +1,20 @@
+package com.br.totvs.model.interfaces;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca o campo calculado pela própria entidade a partir dos demais campos, em um callback JPA
+ * (ex.: o nome de busca do cliente, em {@code @PrePersist}/{@code @PreUpdate}). O campo não é copiado
+ * nas atualizações parciais, já que a entidade o recalcula ao ser gravada.
+ *
+ * @author guilherme-oliveria
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Derived {
+}
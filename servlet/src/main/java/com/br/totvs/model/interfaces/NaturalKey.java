@@ -0,0 +1,19 @@
+package com.br.totvs.model.interfaces;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca o campo que identifica uma entidade filha dentro da coleção do pai, independente do id
+ * (ex.: a chave numérica do telefone). É usado para comparar as coleções de filhos em atualizações parciais.
+ *
+ * @author guilherme-oliveria
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface NaturalKey {
+}
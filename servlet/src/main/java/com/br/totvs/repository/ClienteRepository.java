@@ -0,0 +1,106 @@
+package com.br.totvs.repository;
+
+import com.br.totvs.model.Cliente;
+import com.br.totvs.repository.projection.ClienteConflito;
+import com.br.totvs.repository.projection.ClienteNome;
+import com.br.totvs.repository.projection.ClienteTelefoneLinha;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório para Cliente.
+ * As leituras por id e da coleção inteira carregam os telefones na mesma consulta;
+ * as leituras paginadas carregam os telefones em lote (hibernate.default_batch_fetch_size).
+ * As leituras somente para exibição usam as linhas de {@link ClienteTelefoneLinha}, que não carregam as entidades.
+ *
+ * @author guilherme-oliveria
+ */
+@Repository
+public interface ClienteRepository extends GenericRepository<Cliente, Long>, VersionedRepository<Long> {
+    Optional<Cliente> findByNome(String nome);
+
+    /**
+     * Recupera, em uma única consulta, os clientes que já possuem o nome ou algum dos telefones informados.
+     * Os telefones são consultados pela chave numérica, que é única e indexada.
+     *
+     * @param nome    o nome
+     * @param chaves  as chaves numéricas dos telefones
+     * @return um conflito por cliente com o nome e um por telefone encontrado
+     */
+    @Query("SELECT new com.br.totvs.repository.projection.ClienteConflito(c.id, c.nome, CAST(NULL AS Long)) FROM Cliente c WHERE c.nome = :nome "
+            + "UNION ALL "
+            + "SELECT new com.br.totvs.repository.projection.ClienteConflito(t.cliente.id, CAST(NULL AS String), t.numeroChave) FROM TelefoneCliente t WHERE t.numeroChave IN :chaves")
+    List<ClienteConflito> findConflitos(@Param("nome") String nome, @Param("chaves") Collection<Long> chaves);
+
+    /**
+     * Recupera o id e o nome de todos os clientes, sem carregar as entidades.
+     *
+     * @return os nomes dos clientes
+     */
+    @Query("SELECT new com.br.totvs.repository.projection.ClienteNome(c.id, c.nome) FROM Cliente c")
+    List<ClienteNome> findAllNomes();
+
+    /**
+     * Recupera o cliente com o id fornecido e os seus telefones em uma única consulta, sem carregar as entidades.
+     *
+     * @param id o id do cliente
+     * @return uma linha por telefone, ordenadas pelo id do telefone, ou nenhuma se o cliente não existir
+     */
+    @Query("SELECT new com.br.totvs.repository.projection.ClienteTelefoneLinha(c.id, c.nome, c.endereco, c.bairro, c.versao, t.id, t.numero, t.numeroChave) "
+            + "FROM Cliente c LEFT JOIN c.telefoneClienteList t WHERE c.id = :id ORDER BY t.id")
+    List<ClienteTelefoneLinha> findLinhasById(@Param("id") Long id);
+
+    /**
+     * Recupera os clientes com os ids fornecidos e os seus telefones em uma única consulta, sem carregar as entidades.
+     *
+     * @param ids os ids dos clientes
+     * @return uma linha por telefone, ordenadas pelo id do cliente e do telefone
+     */
+    @Query("SELECT new com.br.totvs.repository.projection.ClienteTelefoneLinha(c.id, c.nome, c.endereco, c.bairro, c.versao, t.id, t.numero, t.numeroChave) "
+            + "FROM Cliente c LEFT JOIN c.telefoneClienteList t WHERE c.id IN :ids ORDER BY c.id, t.id")
+    List<ClienteTelefoneLinha> findLinhasByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Recupera todos os clientes e os seus telefones em uma única consulta, sem carregar as entidades.
+     *
+     * @return uma linha por telefone, ordenadas pelo id do cliente e do telefone
+     */
+    @Query("SELECT new com.br.totvs.repository.projection.ClienteTelefoneLinha(c.id, c.nome, c.endereco, c.bairro, c.versao, t.id, t.numero, t.numeroChave) "
+            + "FROM Cliente c LEFT JOIN c.telefoneClienteList t ORDER BY c.id, t.id")
+    List<ClienteTelefoneLinha> findAllLinhas();
+
+    /**
+     * Recupera os ids dos telefones dos clientes fornecidos, sem carregar as entidades.
+     *
+     * @param clienteIds os ids dos clientes
+     * @return os ids dos telefones
+     */
+    @Query("SELECT t.id FROM TelefoneCliente t WHERE t.cliente.id IN :clienteIds")
+    List<Long> findTelefoneIdsByClienteIdIn(@Param("clienteIds") Collection<Long> clienteIds);
+
+    /**
+     * Exclui os telefones dos clientes fornecidos em um único comando, sem carregar as entidades.
+     *
+     * @param clienteIds os ids dos clientes
+     * @return a quantidade de telefones excluídos
+     */
+    @Modifying
+    @Query("DELETE FROM TelefoneCliente t WHERE t.cliente.id IN :clienteIds")
+    int deleteTelefonesByClienteIdIn(@Param("clienteIds") Collection<Long> clienteIds);
+
+    @Override
+    @EntityGraph(attributePaths = "telefoneClienteList")
+    Optional<Cliente> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = "telefoneClienteList")
+    List<Cliente> findAll();
+
+}
@@ -0,0 +1,46 @@
+package com.br.totvs.repository;
+
+import com.br.totvs.model.EntityChange;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório do log de alterações das entidades.
+ * As alterações de uma entidade são lidas pelo índice (entidade, sequencia), então o custo de uma leitura
+ * depende apenas da quantidade de alterações retornadas.
+ *
+ * @author guilherme-oliveria
+ */
+@Repository
+public interface EntityChangeRepository extends JpaRepository<EntityChange, Long> {
+
+    /**
+     * Recupera as alterações da entidade com sequência no intervalo (depois, ate], ordenadas pela sequência.
+     *
+     * @param entidade o nome da entidade
+     * @param depois   a última sequência já lida
+     * @param ate      a maior sequência que pode ser lida
+     * @param limit    quantidade máxima de alterações
+     * @return as alterações encontradas
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT c FROM EntityChange c WHERE c.entidade = :entidade AND c.sequencia > :depois AND c.sequencia <= :ate ORDER BY c.sequencia")
+    List<EntityChange> findChanges(@Param("entidade") String entidade, @Param("depois") long depois, @Param("ate") long ate, Limit limit);
+
+    /**
+     * Recupera a maior sequência gravada.
+     *
+     * @return a maior sequência, ou vazio se o log estiver vazio
+     */
+    @Query("SELECT MAX(c.sequencia) FROM EntityChange c")
+    Optional<Long> findMaxSequencia();
+}
@@ -0,0 +1,55 @@
+package com.br.totvs.repository;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Repositório base com as consultas comuns a todas as entidades.
+ * A paginação é feita por chave (id &gt; cursor), sem OFFSET, inclusive nas buscas por {@link org.springframework.data.jpa.domain.Specification}.
+ *
+ * @param <T>  o tipo da entidade
+ * @param <ID> o tipo do id da entidade
+ * @author guilherme-oliveria
+ */
+@NoRepositoryBean
+public interface GenericRepository<T, ID> extends JpaRepository<T, ID>, JpaSpecificationExecutor<T> {
+
+    /**
+     * Recupera as primeiras entidades ordenadas pelo id.
+     *
+     * @param limit quantidade máxima de entidades
+     * @return as entidades encontradas
+     */
+    List<T> findAllByOrderByIdAsc(Limit limit);
+
+    /**
+     * Recupera as entidades com id maior que o fornecido, ordenadas pelo id.
+     *
+     * @param id    o último id da página anterior
+     * @param limit quantidade máxima de entidades
+     * @return as entidades encontradas
+     */
+    List<T> findByIdGreaterThanOrderByIdAsc(ID id, Limit limit);
+
+    /**
+     * Percorre todas as entidades ordenadas pelo id através de um cursor do banco de dados.
+     * As linhas são lidas em blocos de 100 (mesmo valor de hibernate.default_batch_fetch_size)
+     * e as entidades são carregadas somente para leitura, sem cópia para a verificação de alterações.
+     * Deve ser chamado dentro de uma transação e o stream deve ser fechado ao final.
+     *
+     * @return o stream das entidades
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<T> streamAllByOrderByIdAsc();
+}
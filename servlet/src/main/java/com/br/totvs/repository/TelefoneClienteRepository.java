@@ -0,0 +1,43 @@
+package com.br.totvs.repository;
+
+import com.br.totvs.model.Cliente;
+import com.br.totvs.model.TelefoneCliente;
+import com.br.totvs.repository.projection.TelefoneNumero;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório para Telefone Cliente.
+ *
+ * @author guilherme-oliveria
+ */
+@Repository
+public interface TelefoneClienteRepository extends GenericRepository<TelefoneCliente, Long> {
+    Optional<TelefoneCliente> findByNumeroChave(Long numeroChave);
+
+    @Query("SELECT c FROM Cliente c JOIN c.telefoneClienteList t WHERE t.numeroChave = :numeroChave")
+    Optional<Cliente> findClienteByNumeroChave(@Param("numeroChave") Long numeroChave);
+
+    /**
+     * Recupera o id, o cliente e a chave numérica de todos os telefones, sem carregar as entidades.
+     *
+     * @return os números dos telefones
+     */
+    @Query("SELECT new com.br.totvs.repository.projection.TelefoneNumero(t.id, t.cliente.id, t.numeroChave) FROM TelefoneCliente t")
+    List<TelefoneNumero> findAllNumeros();
+
+    /**
+     * Recupera o id e a chave numérica dos telefones de um cliente, sem carregar as entidades.
+     *
+     * @param clienteId o id do cliente
+     * @return os números dos telefones do cliente
+     */
+    @Query("SELECT new com.br.totvs.repository.projection.TelefoneNumero(t.id, t.cliente.id, t.numeroChave) FROM TelefoneCliente t WHERE t.cliente.id = :clienteId")
+    List<TelefoneNumero> findNumerosByClienteId(@Param("clienteId") Long clienteId);
+
+
+}
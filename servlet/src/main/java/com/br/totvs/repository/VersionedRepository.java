@@ -0,0 +1,27 @@
+package com.br.totvs.repository;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * Consultas dos repositórios de entidades com controle de concorrência otimista.
+ * A entidade deve declarar a versão no campo {@code versao}, anotado com {@link jakarta.persistence.Version}.
+ *
+ * @param <ID> o tipo do id da entidade
+ * @author guilherme-oliveria
+ */
+@NoRepositoryBean
+public interface VersionedRepository<ID> {
+
+    /**
+     * Recupera somente a versão da entidade com o id fornecido, sem carregar a entidade.
+     *
+     * @param id o id da entidade
+     * @return a versão, ou vazio se a entidade não existir
+     */
+    @Query("SELECT e.versao FROM #{#entityName} e WHERE e.id = :id")
+    Optional<Long> findVersaoById(@Param("id") ID id);
+}
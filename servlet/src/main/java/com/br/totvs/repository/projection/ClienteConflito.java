@@ -0,0 +1,14 @@
+package com.br.totvs.repository.projection;
+
+/**
+ * Cliente que já possui o nome ou um dos telefones informados.
+ *
+ * @param id          o id do cliente
+ * @param nome        o nome do cliente, quando o conflito é de nome
+ * @param numeroChave a chave numérica do telefone, quando o conflito é de telefone
+ */
+public record ClienteConflito(
+        Long id,
+        String nome,
+        Long numeroChave
+) {}
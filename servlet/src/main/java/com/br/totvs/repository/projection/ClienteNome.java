@@ -0,0 +1,12 @@
+package com.br.totvs.repository.projection;
+
+/**
+ * Nome de um cliente.
+ *
+ * @param id   o id do cliente
+ * @param nome o nome do cliente
+ */
+public record ClienteNome(
+        Long id,
+        String nome
+) {}
@@ -0,0 +1,25 @@
+package com.br.totvs.repository.projection;
+
+/**
+ * Linha da leitura de clientes com os seus telefones: os dados do cliente repetidos em cada telefone.
+ * Um cliente sem telefones aparece em uma única linha, com os campos do telefone nulos.
+ *
+ * @param id          o id do cliente
+ * @param nome        o nome do cliente
+ * @param endereco    o endereço do cliente
+ * @param bairro      o bairro do cliente
+ * @param versao      a versão do cliente
+ * @param telefoneId  o id do telefone, ou null se o cliente não possui telefones
+ * @param numero      o número do telefone, ou null se o cliente não possui telefones
+ * @param numeroChave a chave numérica do telefone, ou null se o cliente não possui telefones
+ */
+public record ClienteTelefoneLinha(
+        Long id,
+        String nome,
+        String endereco,
+        String bairro,
+        Long versao,
+        Long telefoneId,
+        String numero,
+        Long numeroChave
+) {}
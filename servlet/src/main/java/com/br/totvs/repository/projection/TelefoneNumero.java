@@ -0,0 +1,14 @@
+package com.br.totvs.repository.projection;
+
+/**
+ * Chave numérica de um telefone e o cliente ao qual ele pertence.
+ *
+ * @param id          o id do telefone
+ * @param clienteId   o id do cliente
+ * @param numeroChave a chave numérica do número do telefone
+ */
+public record TelefoneNumero(
+        Long id,
+        Long clienteId,
+        Long numeroChave
+) {}
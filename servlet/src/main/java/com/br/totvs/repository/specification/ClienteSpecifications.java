@@ -0,0 +1,81 @@
+package com.br.totvs.repository.specification;
+
+import com.br.totvs.model.Cliente;
+import com.br.totvs.model.TelefoneCliente;
+import com.br.totvs.util.Util;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Filtros da busca de clientes.
+ * Cada filtro usa uma coluna indexada: o nome normalizado ({@code idx_cliente_nome_busca}), o bairro
+ * ({@code idx_cliente_bairro}) e os dígitos do telefone ({@code idx_telefone_cliente_numero_busca}).
+ *
+ * @author guilherme-oliveria
+ */
+public final class ClienteSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private ClienteSpecifications() {
+    }
+
+    /**
+     * Clientes cujo nome começa com o prefixo fornecido, sem distinção de maiúsculas e acentos.
+     * O prefixo é normalizado como o nome de busca ({@link Util#normalizeForSearch(String)}) e comparado com LIKE 'prefixo%',
+     * que o banco resolve como um intervalo do índice.
+     *
+     * @param prefixo o prefixo do nome
+     * @return o filtro
+     */
+    public static Specification<Cliente> nomeComecaCom(String prefixo) {
+        String pattern = escapeLike(Util.normalizeForSearch(prefixo)) + "%";
+        return (root, query, builder) -> builder.like(root.get("nomeBusca"), pattern, LIKE_ESCAPE);
+    }
+
+    /**
+     * Clientes do bairro fornecido.
+     *
+     * @param bairro o bairro
+     * @return o filtro
+     */
+    public static Specification<Cliente> bairroIgual(String bairro) {
+        return (root, query, builder) -> builder.equal(root.get("bairro"), bairro);
+    }
+
+    /**
+     * Clientes com algum telefone que começa com o prefixo fornecido.
+     * O prefixo é reduzido aos dígitos ({@link Util#digitsOnly(String)}) e comparado com os dígitos de busca do telefone
+     * por LIKE 'prefixo%', um único intervalo do índice {@code idx_telefone_cliente_numero_busca}. Os clientes são
+     * filtrados por id IN (subconsulta), para que cada cliente apareça uma única vez e seja lido pela chave primária.
+     *
+     * @param prefixo o prefixo do telefone
+     * @return o filtro
+     */
+    public static Specification<Cliente> telefoneComecaCom(String prefixo) {
+        String digits = Util.digitsOnly(prefixo);
+        return (root, query, builder) -> {
+            if (digits.isEmpty()) {
+                return builder.disjunction();
+            }
+            Subquery<Long> clientes = query.subquery(Long.class);
+            Root<TelefoneCliente> telefone = clientes.from(TelefoneCliente.class);
+            clientes.select(telefone.get("cliente").get("id"))
+                    .where(builder.like(telefone.get("numeroBusca"), digits + "%"));
+            return root.get("id").in(clientes);
+        };
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,306 @@
+package com.br.totvs.service;
+
+import com.br.totvs.exception.CustomException;
+import com.br.totvs.exception.InvalidFieldException;
+import com.br.totvs.model.Cliente;
+import com.br.totvs.model.TelefoneCliente;
+import com.br.totvs.repository.ClienteRepository;
+import com.br.totvs.repository.projection.ClienteConflito;
+import com.br.totvs.repository.projection.ClienteTelefoneLinha;
+import com.br.totvs.repository.projection.TelefoneNumero;
+import com.br.totvs.repository.specification.ClienteSpecifications;
+import com.br.totvs.service.batch.BulkDeleteResult;
+import com.br.totvs.service.index.ClienteUniquenessIndex;
+import com.br.totvs.service.message.MessageService;
+import com.br.totvs.service.page.KeysetPage;
+import com.br.totvs.util.Util;
+import jakarta.transaction.Transactional;
+import org.apache.logging.log4j.util.Strings;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+@Service
+public class ClienteService extends GenericServiceAbstract<Cliente,Long> {
+
+    private final ClienteRepository clienteRepository;
+    private final TelefoneClienteService telefoneClienteService;
+    private final MessageService messageService;
+    private final ClienteUniquenessIndex uniquenessIndex;
+    public ClienteService(ClienteRepository clienteRepository, TelefoneClienteService telefoneClienteService,MessageService messageService,
+                          ClienteUniquenessIndex uniquenessIndex) {
+        super(clienteRepository,messageService);
+        this.clienteRepository = clienteRepository;
+        this.telefoneClienteService = telefoneClienteService;
+        this.messageService = messageService;
+        this.uniquenessIndex = uniquenessIndex;
+    }
+
+    public Optional<Cliente> findByNome(String nome) {
+        return Optional.ofNullable(clienteRepository.findByNome(nome).orElse(null));
+    }
+
+    /**
+     * Recupera o cliente com o id fornecido e os seus telefones como linhas, sem carregar as entidades.
+     * @param id id do cliente
+     * @return uma linha por telefone do cliente
+     * @throws CustomException caso o cliente não exista
+     */
+    public List<ClienteTelefoneLinha> findLinhasById(Long id) {
+        List<ClienteTelefoneLinha> linhas = clienteRepository.findLinhasById(id);
+        if (linhas.isEmpty()) {
+            throw notFound(id);
+        }
+        return linhas;
+    }
+
+    /**
+     * Recupera os clientes com os ids fornecidos e os seus telefones como linhas, sem carregar as entidades.
+     * @param ids ids dos clientes
+     * @return uma linha por telefone, ordenadas pelo id do cliente; os ids não encontrados são ignorados
+     */
+    public List<ClienteTelefoneLinha> findLinhasByIds(Collection<Long> ids) {
+        return clienteRepository.findLinhasByIdIn(ids);
+    }
+
+    /**
+     * Recupera todos os clientes e os seus telefones como linhas, sem carregar as entidades.
+     * @return uma linha por telefone, ordenadas pelo id do cliente
+     */
+    public List<ClienteTelefoneLinha> findAllLinhas() {
+        return clienteRepository.findAllLinhas();
+    }
+
+    @Override
+    public void validateBeforeSave(Cliente cliente) throws InvalidFieldException {
+        validateNome(cliente);
+        validateDuplicados(cliente, validateTelefones(cliente));
+    }
+
+    @Override
+    public void validateBeforeUpdate(Cliente cliente) throws InvalidFieldException {
+        validateNome(cliente);
+        validateDuplicados(cliente, validateTelefones(cliente));
+    }
+
+    /**
+     * Busca os clientes pelos filtros informados, paginados por chave.
+     * Os filtros são combinados (E) e os não informados são ignorados.
+     * @param nome prefixo do nome, sem distinção de maiúsculas e acentos
+     * @param bairro bairro
+     * @param telefone prefixo do telefone
+     * @param cursor cursor opaco da página anterior, ou null para a primeira página
+     * @param limit quantidade máxima de clientes da página
+     * @return página de clientes e cursor da próxima página
+     */
+    @Transactional
+    public KeysetPage<Cliente> search(String nome, String bairro, String telefone, String cursor, int limit) {
+        return findPage(searchSpecification(nome, bairro, telefone), cursor, limit);
+    }
+
+    /**
+     * Exclui em lote os clientes que atendem aos filtros informados, com os mesmos critérios de
+     * {@link #search(String, String, String, String, int)}. Ao menos um filtro deve ser informado.
+     * @param nome prefixo do nome, sem distinção de maiúsculas e acentos
+     * @param bairro bairro
+     * @param telefone prefixo do telefone
+     * @return quantidade de clientes excluídos
+     * @throws InvalidFieldException caso nenhum filtro seja informado
+     */
+    @Transactional
+    public BulkDeleteResult<Long> deleteAll(String nome, String bairro, String telefone) {
+        if (Strings.isBlank(nome) && Strings.isBlank(bairro) && Strings.isBlank(telefone)) {
+            throw new InvalidFieldException(HttpStatus.BAD_REQUEST, messageService.getMessage("error.bulkDeleteTarget"));
+        }
+        return deleteAll(searchSpecification(nome, bairro, telefone));
+    }
+
+    private Specification<Cliente> searchSpecification(String nome, String bairro, String telefone) {
+        Specification<Cliente> specification = Specification.where(null);
+        if (Strings.isNotBlank(nome)) {
+            specification = specification.and(ClienteSpecifications.nomeComecaCom(nome));
+        }
+        if (Strings.isNotBlank(bairro)) {
+            specification = specification.and(ClienteSpecifications.bairroIgual(bairro));
+        }
+        if (Strings.isNotBlank(telefone)) {
+            specification = specification.and(ClienteSpecifications.telefoneComecaCom(telefone));
+        }
+        return specification;
+    }
+
+    /**
+     * Lê os ids dos telefones dos clientes, exclui os telefones em um único comando e,
+     * após o commit, remove os nomes e os números do {@link ClienteUniquenessIndex}, que nas exclusões por comando
+     * não é atualizado pelos callbacks JPA.
+     * @param ids ids dos clientes
+     */
+    @Override
+    protected void deleteChildren(List<Long> ids) {
+        List<Long> clienteIds = List.copyOf(ids);
+        List<Long> telefoneIds = clienteRepository.findTelefoneIdsByClienteIdIn(clienteIds);
+        clienteRepository.deleteTelefonesByClienteIdIn(clienteIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            uniquenessIndex.removeClientes(clienteIds, telefoneIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                uniquenessIndex.removeClientes(clienteIds, telefoneIds);
+            }
+        });
+    }
+
+    /**
+     * Método para verificar o formato do nome
+     * @param cliente entidade {@link Cliente}
+     * @throws InvalidFieldException caso ocorra erro de validação
+     */
+    public void validateNome(Cliente cliente) throws InvalidFieldException {
+        if (Strings.isEmpty(cliente.getNome())) {
+            throw new InvalidFieldException(HttpStatus.BAD_REQUEST, messageService.getMessage("error.invalidName"));
+        }
+
+        if (cliente.getNome().length() <= 10) {
+            throw new InvalidFieldException(HttpStatus.BAD_REQUEST, messageService.getMessage("error.invalidName.lengh"));
+        }
+    }
+
+    /**
+     * Método para verificar o formato dos telefones e calcular as suas chaves numéricas,
+     * com uma única leitura de cada número ({@link Util#parsePhone(CharSequence)}).
+     * A chave já calculada na criação do {@link com.br.totvs.dto.TelefoneClienteDTO} (e conferida na validação
+     * do DTO) chega preenchida na entidade e é reaproveitada; o número só é lido aqui quando a chave não foi informada
+     * @param cliente entidade {@link Cliente}
+     * @return chaves numéricas dos telefones do cliente, na ordem informada
+     * @throws InvalidFieldException caso ocorra erro de validação
+     */
+    public List<Long> validateTelefones(Cliente cliente) throws InvalidFieldException {
+        if (cliente.getTelefoneClienteList() == null) {
+            return List.of();
+        }
+        List<Long> chaves = new ArrayList<>(cliente.getTelefoneClienteList().size());
+        for (TelefoneCliente telefone : cliente.getTelefoneClienteList()) {
+            long chave = telefone.getNumeroChave() != null ? telefone.getNumeroChave() : Util.parsePhone(telefone.getNumero());
+            if (chave == Util.INVALID_PHONE) {
+                throw new InvalidFieldException(HttpStatus.BAD_REQUEST, messageService.getMessage("error.invalidPhone.format"));
+            }
+            telefone.setNumeroChave(chave);
+            chaves.add(chave);
+        }
+        return chaves;
+    }
+
+    /**
+     * Método para verificar se existe nome ou telefone duplicado.
+     * A verificação é respondida pelo {@link ClienteUniquenessIndex} quando o nome e os telefones estão livres;
+     * quando o índice aponta um possível conflito, o nome e todos os telefones são confirmados em uma única
+     * ida ao banco e todos os telefones em conflito são reportados de uma vez.
+     * @param cliente entidade {@link Cliente}
+     * @param chaves chaves numéricas dos telefones do cliente
+     * @throws InvalidFieldException caso ocorra erro de validação
+     */
+    public void validateDuplicados(Cliente cliente, List<Long> chaves) throws InvalidFieldException {
+        boolean nomeDuplicado = false;
+        Set<Long> telefonesDuplicados = new TreeSet<>();
+        Set<Long> informados = new HashSet<>();
+        for (Long chave : chaves) {
+            if (!informados.add(chave)) {
+                telefonesDuplicados.add(chave);
+            }
+        }
+
+        if (!uniquenessIndex.isReady() || !uniquenessIndex.isFree(cliente.getId(), cliente.getNome(), chaves)) {
+            for (ClienteConflito conflito : clienteRepository.findConflitos(cliente.getNome(), chaves)) {
+                if (conflito.id().equals(cliente.getId())) {
+                    continue;
+                }
+                if (conflito.nome() != null) {
+                    nomeDuplicado = true;
+                } else {
+                    telefonesDuplicados.add(conflito.numeroChave());
+                }
+            }
+        }
+
+        throwIfDuplicados(nomeDuplicado, telefonesDuplicados);
+    }
+
+    /**
+     * Método para verificar se o nome ou algum telefone já foi usado por um cliente anterior do mesmo lote.
+     * Os clientes do lote só são enviados ao banco ao final, então {@link #validateDuplicados} não os enxerga;
+     * o nome e as chaves dos telefones de cada cliente aceito são acumulados em {@code batchKeys}.
+     * @param cliente entidade {@link Cliente}, com as chaves dos telefones já calculadas
+     * @param batchKeys nomes ({@link String}) e chaves dos telefones ({@link Long}) dos clientes aceitos no lote
+     * @throws InvalidFieldException caso ocorra erro de validação
+     */
+    @Override
+    public void validateAgainstBatch(Cliente cliente, Set<Object> batchKeys) throws InvalidFieldException {
+        List<TelefoneCliente> telefones = cliente.getTelefoneClienteList() == null ? List.of() : cliente.getTelefoneClienteList();
+        Set<Long> telefonesDuplicados = new TreeSet<>();
+        for (TelefoneCliente telefone : telefones) {
+            if (batchKeys.contains(telefone.getNumeroChave())) {
+                telefonesDuplicados.add(telefone.getNumeroChave());
+            }
+        }
+        throwIfDuplicados(batchKeys.contains(cliente.getNome()), telefonesDuplicados);
+
+        batchKeys.add(cliente.getNome());
+        telefones.forEach(telefone -> batchKeys.add(telefone.getNumeroChave()));
+    }
+
+    private void throwIfDuplicados(boolean nomeDuplicado, Set<Long> telefonesDuplicados) throws InvalidFieldException {
+        if (nomeDuplicado && telefonesDuplicados.isEmpty()) {
+            throw new InvalidFieldException(HttpStatus.CONFLICT, messageService.getMessage("error.duplicateName"));
+        }
+        if (!telefonesDuplicados.isEmpty()) {
+            StringJoiner numeros = new StringJoiner(", ");
+            telefonesDuplicados.forEach(chave -> numeros.add(String.valueOf(chave)));
+            String mensagem = messageService.getMessage("error.duplicatePhones", numeros.toString());
+            if (nomeDuplicado) {
+                mensagem = messageService.getMessage("error.duplicateName") + ". " + mensagem;
+            }
+            throw new InvalidFieldException(HttpStatus.CONFLICT, mensagem);
+        }
+    }
+
+    /**
+     * Reaproveita as linhas dos telefones já gravados: um telefone enviado sem id, com a mesma chave numérica
+     * de um telefone existente do cliente, recebe o id desse telefone em vez de gerar uma exclusão e uma inclusão
+     * (que violaria a unicidade da chave).
+     * @param id id do cliente
+     * @param cliente entidade {@link Cliente}
+     * @return o cliente pronto para atualização
+     */
+    @Override
+    public Cliente prepareForUpdate(Long id, Cliente cliente) {
+        if (cliente.getTelefoneClienteList() == null
+                || cliente.getTelefoneClienteList().stream().allMatch(telefone -> telefone.getId() != null)) {
+            return cliente;
+        }
+        Map<Long, Long> idPorChave = new HashMap<>();
+        for (TelefoneNumero existente : telefoneClienteService.findNumerosByClienteId(id)) {
+            idPorChave.put(existente.numeroChave(), existente.id());
+        }
+        for (TelefoneCliente telefone : cliente.getTelefoneClienteList()) {
+            if (telefone.getId() == null) {
+                telefone.setId(idPorChave.get(telefone.getNumeroChave()));
+            }
+        }
+        return cliente;
+    }
+}
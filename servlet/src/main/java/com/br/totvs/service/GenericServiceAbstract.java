@@ -0,0 +1,922 @@
+package com.br.totvs.service;
+
+import com.br.totvs.exception.CustomException;
+import com.br.totvs.exception.InvalidFieldException;
+import com.br.totvs.model.EntityChange;
+import com.br.totvs.model.interfaces.ChildEntity;
+import com.br.totvs.repository.GenericRepository;
+import com.br.totvs.repository.VersionedRepository;
+import com.br.totvs.service.batch.BatchError;
+import com.br.totvs.service.batch.BatchResult;
+import com.br.totvs.service.batch.BulkDeleteResult;
+import com.br.totvs.service.cache.EntityCache;
+import com.br.totvs.service.cache.EntityCacheManager;
+import com.br.totvs.service.cache.Versioned;
+import com.br.totvs.service.change.Change;
+import com.br.totvs.service.change.ChangeFeed;
+import com.br.totvs.service.change.ChangePage;
+import com.br.totvs.service.message.MessageService;
+import com.br.totvs.service.metadata.EntityMetadata;
+import com.br.totvs.service.metrics.EntityMetrics;
+import com.br.totvs.service.metrics.PhaseTimers;
+import com.br.totvs.service.page.KeysetPage;
+import com.br.totvs.util.CursorUtil;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.transaction.Transactional;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Esta classe abstrata fornece uma implementação genérica de um serviço.
+ * Ela inclui métodos para salvar, deletar, encontrar por id, encontrar todos, e obter o id de uma entidade.
+ * Ela também inclui métodos abstratos para validar uma entidade antes de salvar ou atualizar, e um método para preparar uma entidade para atualização.
+ *
+ * @param <T>  o tipo de entidade que este serviço irá manipular
+ * @param <ID> o tipo do id da entidade
+ */
+@Service
+public abstract class GenericServiceAbstract<T extends Entity, ID> {
+
+    /**
+     * Quantidade máxima de entidades retornadas em uma página.
+     */
+    public static final int MAX_PAGE_LIMIT = 100;
+
+    /**
+     * Quantidade máxima de entidades em uma operação em lote.
+     */
+    public static final int MAX_BATCH_SIZE = 1000;
+
+    private final GenericRepository<T, ID> repository;
+    private final Class<T> entityClass;
+    private final Class<ID> idClass;
+    private final MessageService messageService;
+    private EntityCache<ID, Versioned<?>> cache = EntityCache.disabled();
+    private EntityManager entityManager;
+    private PhaseTimers timers = PhaseTimers.disabled();
+    private ChangeFeed changeFeed = ChangeFeed.disabled();
+
+    /**
+     * Constrói um novo GenericService com o repositório fornecido.
+     *
+     * @param repository o repositório a ser usado para operações CRUD
+     */
+    @SuppressWarnings("unchecked")
+    public GenericServiceAbstract(GenericRepository<T, ID> repository, MessageService messageService) {
+        this.repository = repository;
+        this.messageService = messageService;
+        Type[] typeArguments = ((ParameterizedType) getClass().getGenericSuperclass()).getActualTypeArguments();
+        this.entityClass = (Class<T>) typeArguments[0];
+        this.idClass = (Class<ID>) typeArguments[1];
+    }
+
+    /**
+     * Configura o cache de leitura por id desta entidade ({@link #findVersioned}).
+     * Sem um {@link EntityCacheManager} as leituras vão sempre ao carregador.
+     *
+     * @param cacheManager o gerenciador dos caches de entidades
+     */
+    @Autowired
+    public void setEntityCacheManager(EntityCacheManager cacheManager) {
+        this.cache = cacheManager.cacheFor(entityClass);
+    }
+
+    @PersistenceContext
+    public void setEntityManager(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Configura os timers das fases de validação e persistência desta entidade.
+     * Sem um {@link EntityMetrics} as fases não são medidas.
+     *
+     * @param entityMetrics o fornecedor dos timers por entidade
+     */
+    @Autowired
+    public void setEntityMetrics(EntityMetrics entityMetrics) {
+        this.timers = entityMetrics.timersFor(entityClass);
+    }
+
+    /**
+     * Configura o log de alterações, no qual as gravações e exclusões desta entidade são registradas.
+     * Sem um {@link ChangeFeed} as alterações não são registradas.
+     *
+     * @param changeFeed o log de alterações
+     */
+    @Autowired
+    public void setChangeFeed(ChangeFeed changeFeed) {
+        this.changeFeed = changeFeed;
+    }
+
+    public Class<T> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * Salva a entidade fornecida.
+     * A gravação e o registro no log de alterações são feitos na mesma transação.
+     *
+     * @param entity a entidade a ser salva
+     * @return a entidade salva
+     */
+    @Transactional
+    public T save(T entity) {
+        timers.validate(() -> {
+            configParentReferencesAuto(entity);
+            validateBeforeSave(entity);
+        });
+        T saved = timers.persist(() -> salvar(entity));
+        evictOnCompletion(getId(saved));
+        return saved;
+    }
+
+    /**
+     * Atualiza a entidade fornecida, sobrescrevendo a versão gravada.
+     *
+     * @param entity a entidade a ser atualizada
+     * @return a entidade atualizada
+     */
+    @Transactional
+    public T update(T entity){
+        return update(entity, null);
+    }
+
+    /**
+     * Atualiza a entidade fornecida.
+     * A entidade gravada é carregada uma única vez: a leitura decide entre 404 e a atualização, fornece a versão atual
+     * e é reaproveitada pelo merge, que não consulta o banco novamente. A entidade recebe a versão esperada
+     * (ou a versão atual, quando não informada) e a gravação falha com {@link HttpStatus#PRECONDITION_FAILED}
+     * se outra requisição tiver alterado a entidade depois dessa versão.
+     *
+     * @param entity          a entidade a ser atualizada
+     * @param expectedVersion a versão esperada da entidade, ou null para sobrescrever a versão gravada
+     * @return a entidade atualizada
+     */
+    @Transactional
+    public T update(T entity, Long expectedVersion) {
+        return update(getId(entity), entity, expectedVersion);
+    }
+
+    /**
+     * Atualiza a entidade com o id fornecido, que é atribuído à entidade antes da validação e da gravação
+     * (ex.: o id do caminho da requisição, quando o corpo não traz o id).
+     *
+     * @param id              o id da entidade a ser atualizada
+     * @param entity          a entidade com o estado desejado
+     * @param expectedVersion a versão esperada da entidade, ou null para sobrescrever a versão gravada
+     * @return a entidade atualizada
+     * @see #update(Entity, Long)
+     */
+    @Transactional
+    public T update(ID id, T entity, Long expectedVersion) {
+        EntityMetadata.of(entity.getClass()).setId(entity, id);
+        T current = repository.findById(id).orElseThrow(() -> notFound(id));
+        checkVersion(id, current, expectedVersion);
+        timers.validate(() -> {
+            configParentReferencesAuto(entity);
+            validateBeforeUpdate(entity);
+        });
+        EntityMetadata.of(entity.getClass()).setVersion(entity, expectedVersion != null ? expectedVersion : getVersion(current));
+        evictOnCompletion(id);
+        return timers.persist(() -> salvar(prepareForUpdate(id, entity)));
+    }
+
+    /**
+     * Atualiza parcialmente a entidade com o id fornecido.
+     * A entidade gravada é carregada e recebe apenas os campos que diferem da entidade fornecida
+     * ({@link EntityMetadata#copyChanges(Object, Object)}); as coleções de filhos são comparadas pela chave natural,
+     * de modo que os filhos inalterados mantêm as suas linhas e somente as inclusões, alterações e exclusões
+     * reais chegam ao banco de dados.
+     *
+     * @param id      o id da entidade a ser atualizada
+     * @param changes a entidade com o estado desejado (os campos não informados devem trazer o valor atual)
+     * @return a entidade atualizada
+     */
+    @Transactional
+    public T patch(ID id, T changes) {
+        return patch(id, changes, null);
+    }
+
+    /**
+     * Atualiza parcialmente a entidade com o id fornecido, desde que ela esteja na versão esperada.
+     *
+     * @param id              o id da entidade a ser atualizada
+     * @param changes         a entidade com o estado desejado
+     * @param expectedVersion a versão esperada da entidade, ou null para não conferir a versão
+     * @return a entidade atualizada
+     * @see #patch(Object, Entity)
+     */
+    @Transactional
+    public T patch(ID id, T changes, Long expectedVersion) {
+        T entity = repository.findById(id).orElseThrow(() -> notFound(id));
+        checkVersion(id, entity, expectedVersion);
+        timers.validate(() -> {
+            configParentReferencesAuto(changes);
+            validateBeforeUpdate(changes);
+        });
+        evictOnCompletion(id);
+        return timers.persist(() -> {
+            try {
+                Long version = getVersion(entity);
+                if (EntityMetadata.of(entity.getClass()).copyChanges(changes, entity)) {
+                    changeFeed.record(entityClass, id, EntityChange.Type.UPSERT);
+                    repository.flush();
+                    if (version != null && version.equals(getVersion(entity))) {
+                        // apenas campos de filhos mudaram: a versão do pai também deve mudar, pois ela é o ETag do agregado
+                        entityManager.lock(entity, LockModeType.OPTIMISTIC_FORCE_INCREMENT);
+                    }
+                }
+                return entity;
+            } catch (IllegalStateException e) {
+                throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, messageService.getMessage("error.illegalAccess", e.getMessage()));
+            } catch (Exception e) {
+                throw persistenceError(e);
+            }
+        });
+    }
+
+    /**
+     * Salva as entidades fornecidas em lote.
+     * Cada entidade é validada individualmente, e também contra as anteriores do mesmo lote
+     * ({@link #validateAgainstBatch}), e as rejeitadas são reportadas com a sua posição na lista; as válidas são salvas juntas, em uma única transação e com inserts agrupados em lotes JDBC.
+     *
+     * @param entities as entidades a serem salvas
+     * @return as entidades salvas e os erros de cada item rejeitado
+     */
+    @Transactional
+    public BatchResult<T> saveAll(List<T> entities) {
+        validateBatchSize(entities.size());
+        List<T> validEntities = new ArrayList<>(entities.size());
+        List<BatchError> errors = new ArrayList<>();
+        Set<Object> batchKeys = new HashSet<>();
+        timers.validate(() -> {
+            for (int i = 0; i < entities.size(); i++) {
+                T entity = entities.get(i);
+                try {
+                    configParentReferencesAuto(entity);
+                    validateBeforeSave(entity);
+                    validateAgainstBatch(entity, batchKeys);
+                    validEntities.add(entity);
+                } catch (InvalidFieldException e) {
+                    errors.add(new BatchError(i, e.getErrorCode(), e.getMessage()));
+                } catch (CustomException e) {
+                    errors.add(new BatchError(i, e.getErrorCode(), e.getMessage()));
+                }
+            }
+        });
+        List<T> saved = validEntities.isEmpty() ? List.of() : timers.persist(() -> salvarTodos(validEntities));
+        return new BatchResult<>(saved, errors);
+    }
+
+    /**
+     * Verifica se a quantidade de itens de uma operação em lote está dentro do limite.
+     *
+     * @param size a quantidade de itens
+     * @throws InvalidFieldException caso o limite seja excedido
+     */
+    public void validateBatchSize(int size) throws InvalidFieldException {
+        if (size > MAX_BATCH_SIZE) {
+            throw new InvalidFieldException(HttpStatus.BAD_REQUEST, messageService.getMessage("error.batchTooLarge", MAX_BATCH_SIZE));
+        }
+    }
+
+    /**
+     * Salva a entidade fornecida e registra a alteração no log.
+     * Os comandos são enviados ao banco de dados aqui, para que as falhas sejam convertidas por {@link #persistenceError}.
+     *
+     * @param entity a entidade a ser salva
+     * @return a entidade salva
+     */
+    protected T salvar(T entity) {
+        try {
+            T saved = repository.save(entity);
+            changeFeed.record(entityClass, getId(saved), EntityChange.Type.UPSERT);
+            repository.flush();
+            return saved;
+        } catch (Exception e) {
+            throw persistenceError(e);
+        }
+    }
+
+    /**
+     * Salva as entidades fornecidas e registra as alterações no log.
+     *
+     * @param entities as entidades a serem salvas
+     * @return as entidades salvas
+     */
+    protected List<T> salvarTodos(List<T> entities) {
+        try {
+            List<T> saved = repository.saveAll(entities);
+            List<ID> ids = new ArrayList<>(saved.size());
+            for (T entity : saved) {
+                ids.add(getId(entity));
+            }
+            changeFeed.recordAll(entityClass, ids, EntityChange.Type.UPSERT);
+            repository.flush();
+            return saved;
+        } catch (Exception e) {
+            throw persistenceError(e);
+        }
+    }
+
+    /**
+     * Converte uma falha de persistência em {@link CustomException}.
+     *
+     * @param e a falha
+     * @return a exceção a ser lançada
+     */
+    private CustomException persistenceError(Exception e) {
+        if (e instanceof OptimisticLockingFailureException) {
+            String mensagemErro = messageService.getMessage("error.optimisticLock",entityClass.getSimpleName());
+            return new CustomException(HttpStatus.PRECONDITION_FAILED, mensagemErro, e);
+        }
+        if (e instanceof DataIntegrityViolationException) {
+            String mensagemErro = messageService.getMessage("error.dataIntegrityViolation",entityClass.getSimpleName());
+            return new CustomException(HttpStatus.UNPROCESSABLE_ENTITY, mensagemErro, e);
+        }
+        String mensagemErro = messageService.getMessage(
+                "error.unexpectedError",
+                new Object[]{e.getMessage()}
+        );
+        return new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, mensagemErro, e);
+    }
+
+    /**
+     * Exclui a entidade com o id fornecido.
+     *
+     * @param id o id da entidade a ser excluída
+     */
+    @Transactional
+    public void delete(ID id) {
+        delete(id, null);
+    }
+
+    /**
+     * Exclui a entidade com o id fornecido, desde que ela esteja na versão esperada.
+     * Sem versão esperada, a entidade não é carregada: ela e os seus filhos são excluídos por comandos sobre o id
+     * ({@link #deleteByIds(List)}) e a quantidade de linhas excluídas decide entre 404 e sucesso. Com versão esperada,
+     * a entidade é carregada uma única vez para conferir a versão e então excluída.
+     *
+     * @param id              o id da entidade a ser excluída
+     * @param expectedVersion a versão esperada da entidade, ou null para não conferir a versão
+     */
+    @Transactional
+    public void delete(ID id, Long expectedVersion) {
+        if (expectedVersion == null) {
+            if (deleteByIds(List.of(id)) == 0) {
+                throw notFound(id);
+            }
+            return;
+        }
+        T entity = repository.findById(id).orElseThrow(() -> notFound(id));
+        checkVersion(id, entity, expectedVersion);
+        try {
+            repository.delete(entity);
+            changeFeed.record(entityClass, id, EntityChange.Type.DELETE);
+            repository.flush();
+        } catch (Exception e) {
+            throw persistenceError(e);
+        }
+        evictOnCompletion(id);
+    }
+
+    /**
+     * Exclui as entidades com os ids fornecidos em uma única transação.
+     * As entidades não são carregadas: elas e os seus filhos são excluídos por um comando por tabela sobre o conjunto
+     * de ids ({@link #deleteByIds(List)}), então a quantidade de comandos não depende da quantidade de entidades.
+     * A versão das entidades não é conferida.
+     *
+     * @param ids os ids das entidades a serem excluídas
+     * @return a quantidade de entidades excluídas e os ids não encontrados
+     */
+    @Transactional
+    public BulkDeleteResult<ID> deleteAll(Collection<ID> ids) {
+        validateBatchSize(ids.size());
+        Set<ID> requested = new LinkedHashSet<>(ids);
+        requested.remove(null);
+        List<ID> existing = requested.isEmpty() ? List.of() : findIds((root, query, builder) -> root.get("id").in(requested));
+        requested.removeAll(new HashSet<>(existing));
+        deleteByIds(existing);
+        return new BulkDeleteResult<>(existing.size(), new ArrayList<>(requested));
+    }
+
+    /**
+     * Exclui as entidades que atendem ao filtro fornecido em uma única transação.
+     * Os ids são lidos por uma consulta que não carrega as entidades e excluídos em blocos de {@link #MAX_BATCH_SIZE},
+     * como em {@link #deleteAll(Collection)}.
+     *
+     * @param specification o filtro das entidades
+     * @return a quantidade de entidades excluídas
+     */
+    @Transactional
+    public BulkDeleteResult<ID> deleteAll(Specification<T> specification) {
+        List<ID> ids = findIds(specification);
+        for (int i = 0; i < ids.size(); i += MAX_BATCH_SIZE) {
+            deleteByIds(ids.subList(i, Math.min(i + MAX_BATCH_SIZE, ids.size())));
+        }
+        return new BulkDeleteResult<>(ids.size(), List.of());
+    }
+
+    /**
+     * Exclui as entidades com os ids fornecidos e os seus filhos ({@link #deleteChildren(List)}), com um comando
+     * por tabela. As exclusões são registradas no log de alterações e as entidades são removidas do cache.
+     * Os comandos não passam pelo contexto de persistência, então os callbacks JPA de exclusão não são chamados.
+     *
+     * @param ids os ids das entidades
+     * @return a quantidade de entidades excluídas
+     */
+    protected int deleteByIds(List<ID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deleted;
+        try {
+            deleteChildren(ids);
+            deleted = entityManager.createQuery("DELETE FROM " + entityName(entityClass) + " e WHERE e.id IN :ids")
+                    .setParameter("ids", ids)
+                    .executeUpdate();
+            if (deleted == 0) {
+                return 0;
+            }
+            changeFeed.recordAll(entityClass, ids, EntityChange.Type.DELETE);
+            repository.flush();
+        } catch (Exception e) {
+            throw persistenceError(e);
+        }
+        evictAllOnCompletion(List.copyOf(ids));
+        return deleted;
+    }
+
+    /**
+     * Exclui os filhos das entidades com os ids fornecidos, antes da exclusão das entidades: um comando por coleção
+     * mapeada pelo filho ({@link EntityMetadata.ChildCollection#mappedBy()}). As subclasses que mantêm dados
+     * derivados dos filhos devem sobrescrever este método, já que os callbacks JPA de exclusão não são chamados.
+     *
+     * @param ids os ids das entidades
+     */
+    protected void deleteChildren(List<ID> ids) {
+        for (EntityMetadata.ChildCollection childCollection : EntityMetadata.of(entityClass).getChildCollections()) {
+            if (childCollection.mappedBy() != null) {
+                entityManager.createQuery("DELETE FROM " + entityName(childCollection.elementType()) + " c WHERE c."
+                                + childCollection.mappedBy() + ".id IN :ids")
+                        .setParameter("ids", ids)
+                        .executeUpdate();
+            }
+        }
+    }
+
+    /**
+     * Recupera os ids das entidades que atendem ao filtro fornecido, ordenados, sem carregar as entidades.
+     *
+     * @param specification o filtro das entidades
+     * @return os ids
+     */
+    private List<ID> findIds(Specification<T> specification) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ID> query = builder.createQuery(idClass);
+        Root<T> root = query.from(entityClass);
+        query.select(root.get("id")).orderBy(builder.asc(root.get("id")));
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    private String entityName(Class<?> type) {
+        return entityManager.getMetamodel().entity(type).getName();
+    }
+
+    /**
+     * Recupera a versão atual da entidade com o id fornecido, sem carregar a entidade.
+     * A versão é lida da leitura em cache, quando presente, ou por uma consulta que lê apenas a versão.
+     *
+     * @param id o id da entidade
+     * @return a versão, ou null se a entidade não possui controle de versão
+     * @throws CustomException caso a entidade não exista
+     */
+    public Long findVersion(ID id) {
+        Versioned<?> cached = cache.getIfPresent(id);
+        return cached != null ? cached.version() : currentVersion(id);
+    }
+
+    /**
+     * Recupera a versão da entidade fornecida.
+     *
+     * @param entity a entidade
+     * @return a versão, ou null se a entidade não possui controle de versão
+     */
+    public Long getVersion(T entity) {
+        return entity == null ? null : (Long) EntityMetadata.of(entity.getClass()).getVersion(entity);
+    }
+
+    /**
+     * Consulta a versão gravada da entidade com o id fornecido.
+     * Para os repositórios sem {@link VersionedRepository} apenas a existência da entidade é verificada.
+     *
+     * @param id o id da entidade
+     * @return a versão, ou null se a entidade não possui controle de versão
+     * @throws CustomException caso a entidade não exista
+     */
+    @SuppressWarnings("unchecked")
+    private Long currentVersion(ID id) {
+        if (repository instanceof VersionedRepository<?> versionedRepository) {
+            return ((VersionedRepository<ID>) versionedRepository).findVersaoById(id).orElseThrow(() -> notFound(id));
+        }
+        if (!repository.existsById(id)) {
+            throw notFound(id);
+        }
+        return null;
+    }
+
+    /**
+     * Verifica se a entidade está na versão esperada.
+     *
+     * @param id              o id da entidade
+     * @param entity          a entidade
+     * @param expectedVersion a versão esperada, ou null para não conferir a versão
+     * @throws CustomException caso a versão seja diferente da esperada
+     */
+    private void checkVersion(ID id, T entity, Long expectedVersion) {
+        if (expectedVersion != null && EntityMetadata.of(entity.getClass()).hasVersion() && !expectedVersion.equals(getVersion(entity))) {
+            throw new CustomException(HttpStatus.PRECONDITION_FAILED, messageService.getMessage("error.preconditionFailed", entityClass.getSimpleName(), id));
+        }
+    }
+
+    /**
+     * Cria a exceção de entidade não encontrada.
+     *
+     * @param id o id da entidade
+     * @return a exceção, com o status 404
+     */
+    protected CustomException notFound(ID id) {
+        return new CustomException(HttpStatus.NOT_FOUND, messageService.getMessage("error.objectNotFound",entityClass.getSimpleName(),id));
+    }
+
+    /**
+     * Remove a entidade com o id fornecido do cache agora e, havendo uma transação ativa, novamente ao seu término,
+     * para que uma leitura concorrente não guarde o estado anterior ao commit.
+     *
+     * @param id o id da entidade
+     */
+    private void evictOnCompletion(ID id) {
+        evictAllOnCompletion(List.of(id));
+    }
+
+    /**
+     * Remove as entidades com os ids fornecidos do cache, como em {@link #evictOnCompletion(Object)}.
+     *
+     * @param ids os ids das entidades
+     */
+    private void evictAllOnCompletion(Collection<ID> ids) {
+        if (!cache.isEnabled()) {
+            return;
+        }
+        ids.forEach(cache::evict);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    ids.forEach(cache::evict);
+                }
+            });
+        }
+    }
+
+    /**
+     * Recupera a leitura da entidade com o id fornecido, montada pelo carregador (ex.: o DTO exibido e a versão)
+     * e guardada no cache da entidade, quando habilitado; as gravações a removem do cache.
+     * O cache guarda somente essa leitura imutável, nunca a entidade gerenciada: uma gravação que altera
+     * a entidade na sessão (ex.: {@link #patch}) não altera o que as demais leituras recebem.
+     *
+     * @param id     o id da entidade
+     * @param loader o carregador da leitura, que retorna null (ou lança a exceção de não encontrado) se a entidade não existir
+     * @return a leitura da entidade
+     * @throws CustomException caso a entidade não exista
+     */
+    @SuppressWarnings("unchecked")
+    public <V> Versioned<V> findVersioned(ID id, Function<ID, Versioned<V>> loader) {
+        Versioned<V> found = (Versioned<V>) cache.get(id, loader);
+        if (found == null) {
+            throw notFound(id);
+        }
+        return found;
+    }
+
+    /**
+     * Recupera a entidade com o id fornecido, com as coleções de filhos inicializadas, em uma única consulta.
+     * A entidade é sempre carregada do repositório (não passa pelo cache), pois pode ser alterada por quem a lê.
+     *
+     * @param id o id da entidade a ser recuperada
+     * @return a entidade recuperada
+     * @throws CustomException caso a entidade não exista
+     */
+    @Transactional
+    public Optional<T> findById(ID id) {
+        T entity = repository.findById(id).orElseThrow(() -> notFound(id));
+        initializeChildren(entity);
+        return Optional.of(entity);
+    }
+
+    /**
+     * Recupera as entidades com os ids fornecidos, com as coleções de filhos inicializadas.
+     * Os ids não encontrados são ignorados.
+     *
+     * @param ids os ids das entidades
+     * @return as entidades encontradas, em qualquer ordem
+     */
+    @Transactional
+    public List<T> findAllById(Collection<ID> ids) {
+        List<T> entities = repository.findAllById(ids);
+        entities.forEach(this::initializeChildren);
+        return entities;
+    }
+
+    private void initializeChildren(T entity) {
+        for (EntityMetadata.ChildCollection childCollection : EntityMetadata.of(entity.getClass()).getChildCollections()) {
+            Hibernate.initialize(childCollection.get(entity));
+        }
+    }
+
+    /**
+     * Recupera todas as entidades, com as coleções de filhos inicializadas.
+     *
+     * @return uma lista de todas as entidades
+     */
+    @Transactional
+    public List<T> findAll() {
+        List<T> entities = repository.findAll();
+        entities.forEach(this::initializeChildren);
+        return entities;
+    }
+
+    /**
+     * Percorre todas as entidades ordenadas pelo id, entregando uma a uma ao consumidor fornecido.
+     * A leitura usa um cursor do banco de dados e processa blocos de {@link #MAX_PAGE_LIMIT} entidades:
+     * as coleções de filhos de um bloco são carregadas em lote e o contexto de persistência é limpo
+     * ao final de cada bloco, de modo que a memória usada não depende da quantidade de registros.
+     *
+     * @param consumer o consumidor das entidades, chamado dentro da transação de leitura
+     */
+    @Transactional
+    public void exportAll(Consumer<? super T> consumer) {
+        List<T> chunk = new ArrayList<>(MAX_PAGE_LIMIT);
+        try (Stream<T> stream = repository.streamAllByOrderByIdAsc()) {
+            Iterator<T> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == MAX_PAGE_LIMIT || !iterator.hasNext()) {
+                    chunk.forEach(consumer);
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
+    /**
+     * Recupera uma página de entidades ordenadas pelo id, a partir do cursor fornecido.
+     * A consulta filtra pelo id (id &gt; cursor) e nunca usa OFFSET. As coleções de filhos são inicializadas
+     * na mesma transação, então a página pode ser lida sem o {@code EntityManager} aberto na requisição.
+     *
+     * @param cursor o cursor opaco da página anterior, ou null para a primeira página
+     * @param limit  a quantidade máxima de entidades da página
+     * @return a página de entidades e o cursor da próxima página
+     */
+    @Transactional
+    public KeysetPage<T> findPage(String cursor, int limit) {
+        validatePageLimit(limit);
+        ID after = decodeCursor(cursor);
+        Limit fetchLimit = Limit.of(limit + 1);
+        List<T> entities = after == null
+                ? repository.findAllByOrderByIdAsc(fetchLimit)
+                : repository.findByIdGreaterThanOrderByIdAsc(after, fetchLimit);
+        return toPage(entities, limit);
+    }
+
+    /**
+     * Recupera uma página das entidades que atendem ao filtro fornecido, ordenadas pelo id, a partir do cursor.
+     * Assim como em {@link #findPage(String, int)}, a consulta filtra pelo id (id &gt; cursor) e nunca usa OFFSET.
+     *
+     * @param specification o filtro das entidades
+     * @param cursor        o cursor opaco da página anterior, ou null para a primeira página
+     * @param limit         a quantidade máxima de entidades da página
+     * @return a página de entidades e o cursor da próxima página
+     */
+    @Transactional
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public KeysetPage<T> findPage(Specification<T> specification, String cursor, int limit) {
+        validatePageLimit(limit);
+        ID after = decodeCursor(cursor);
+        Specification<T> filter = after == null ? specification
+                : specification.and((root, query, builder) -> builder.greaterThan(root.get("id"), (Comparable) after));
+        List<T> entities = repository.findBy(filter, query -> query.sortBy(Sort.by("id")).limit(limit + 1).all());
+        return toPage(entities, limit);
+    }
+
+    /**
+     * Recupera as alterações desta entidade posteriores ao token fornecido.
+     * A leitura percorre apenas as alterações do log (índice por entidade e sequência), então o custo depende
+     * da quantidade de alterações e não do tamanho da tabela. Quando a mesma entidade foi alterada mais de uma vez
+     * no intervalo lido, somente a alteração mais recente é retornada.
+     *
+     * @param token o token retornado pela leitura anterior, ou null para ler desde o início do log
+     * @param limit a quantidade máxima de alterações lidas do log
+     * @return as alterações e o token da próxima leitura
+     */
+    public ChangePage<ID> findChanges(String token, int limit) {
+        validatePageLimit(limit);
+        long after = decodeChangeToken(token);
+        List<EntityChange> entries = changeFeed.read(entityClass, after, limit);
+        Map<ID, EntityChange> latest = new LinkedHashMap<>();
+        for (EntityChange entry : entries) {
+            ID id = DefaultConversionService.getSharedInstance().convert(entry.getIdEntidade(), idClass);
+            latest.remove(id);
+            latest.put(id, entry);
+        }
+        List<Change<ID>> changes = new ArrayList<>(latest.size());
+        latest.forEach((id, entry) -> changes.add(new Change<>(CursorUtil.encode(entry.getSequencia()), entry.getTipo(), id)));
+        String nextToken = entries.isEmpty() ? CursorUtil.encode(after) : CursorUtil.encode(entries.get(entries.size() - 1).getSequencia());
+        return new ChangePage<>(changes, nextToken);
+    }
+
+    /**
+     * Recupera o token da posição atual do log de alterações.
+     * Uma leitura completa feita depois desta chamada já contém as alterações anteriores ao token, então uma cópia
+     * pode ser montada com essa leitura e mantida em dia com {@link #findChanges(String, int)} a partir do token.
+     *
+     * @return o token
+     */
+    public String currentChangeToken() {
+        return CursorUtil.encode(changeFeed.committedSequence());
+    }
+
+    private long decodeChangeToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return 0;
+        }
+        try {
+            long sequence = Long.parseLong(CursorUtil.decode(token));
+            if (sequence < 0) {
+                throw new IllegalArgumentException(token);
+            }
+            return sequence;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidFieldException(HttpStatus.BAD_REQUEST, messageService.getMessage("error.invalidChangeToken"));
+        }
+    }
+
+    private void validatePageLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+            throw new InvalidFieldException(HttpStatus.BAD_REQUEST, messageService.getMessage("error.invalidPageLimit", MAX_PAGE_LIMIT));
+        }
+    }
+
+    private KeysetPage<T> toPage(List<T> entities, int limit) {
+        List<T> content = entities.size() <= limit ? entities : entities.subList(0, limit);
+        content.forEach(this::initializeChildren);
+        String nextCursor = content.size() < entities.size() ? CursorUtil.encode(getId(content.get(limit - 1))) : null;
+        return new KeysetPage<>(content, nextCursor);
+    }
+
+    /**
+     * Converte o cursor fornecido no id da última entidade da página anterior.
+     *
+     * @param cursor o cursor opaco
+     * @return o id, ou null quando o cursor não foi informado
+     */
+    private ID decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            return DefaultConversionService.getSharedInstance().convert(CursorUtil.decode(cursor), idClass);
+        } catch (IllegalArgumentException | ConversionException e) {
+            throw new InvalidFieldException(HttpStatus.BAD_REQUEST, messageService.getMessage("error.invalidCursor"));
+        }
+    }
+
+    /**
+     * Recupera o id da entidade fornecida.
+     * O acessor do campo @Id é resolvido uma única vez por classe em {@link EntityMetadata}.
+     *
+     * @param entity a entidade cujo id deve ser recuperado
+     * @return o id da entidade
+     */
+    @SuppressWarnings("unchecked")
+    public <T, ID> ID getId(T entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        EntityMetadata metadata = EntityMetadata.of(entity.getClass());
+        if (!metadata.hasId()) {
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, messageService.getMessage("error.idFieldNotFound", entity.getClass().getName()));
+        }
+        try {
+            return (ID) metadata.getId(entity);
+        } catch (IllegalStateException e) {
+            throw new CustomException(HttpStatus.INTERNAL_SERVER_ERROR, messageService.getMessage("error.illegalAccess", e.getMessage()));
+        }
+    }
+
+    /**
+     * Configura as referências dos pais automaticamente.
+     * As coleções de {@link ChildEntity} são resolvidas uma única vez por classe em {@link EntityMetadata}.
+     *
+     * @param entity a entidade cujas referências dos pais devem ser configuradas
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void configParentReferencesAuto(T entity) {
+        List<EntityMetadata.ChildCollection> childCollections = EntityMetadata.of(entity.getClass()).getChildCollections();
+        for (int i = 0; i < childCollections.size(); i++) {
+            EntityMetadata.ChildCollection childCollection = childCollections.get(i);
+            Collection<?> children;
+            try {
+                children = childCollection.get(entity);
+            } catch (IllegalStateException e) {
+                throw new CustomException(HttpStatus.NOT_FOUND, messageService.getMessage("error.accessFieldFailure",new Object[]{childCollection.name(), e.getMessage()}));
+            }
+            if (children != null) {
+                for (Object child : children) {
+                    ((ChildEntity) child).setParent(entity);
+                }
+            }
+        }
+    }
+
+    /**
+     * Valida a entidade fornecida antes de salvar.
+     *
+     * @param entity a entidade a ser validada
+     */
+    public abstract void validateBeforeSave(T entity);
+
+
+    /**
+     * Valida a entidade fornecida antes de atualizar.
+     *
+     * @param entity a entidade a ser validada
+     */
+    public abstract void validateBeforeUpdate(T entity);
+
+
+    /**
+     * Valida a entidade fornecida contra as entidades anteriores do mesmo lote, que ainda não foram enviadas ao
+     * banco de dados e por isso não são vistas por {@link #validateBeforeSave}. As chaves únicas das entidades
+     * aceitas são acumuladas em {@code batchKeys}: somente a primeira entidade com uma chave é mantida.
+     * Por padrão nenhuma chave é verificada.
+     *
+     * @param entity    a entidade a ser validada, já validada por {@link #validateBeforeSave}
+     * @param batchKeys as chaves únicas das entidades aceitas até aqui no lote
+     * @throws InvalidFieldException caso a entidade repita uma chave de uma entidade anterior do lote
+     */
+    public void validateAgainstBatch(T entity, Set<Object> batchKeys) throws InvalidFieldException {
+    }
+
+
+    /**
+     * Prepara a entidade fornecida para atualização.
+     *
+     * @param id     o id da entidade a ser atualizada
+     * @param entity a entidade a ser atualizada
+     * @return a entidade pronta para atualização
+     */
+    public T prepareForUpdate(ID id, T entity) {
+        return entity;
+    }
+}
\ No newline at end of file
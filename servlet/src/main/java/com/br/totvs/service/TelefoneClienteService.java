@@ -3,9 +3,12 @@ package com.br.totvs.service;
 import com.br.totvs.model.Cliente;
 import com.br.totvs.model.TelefoneCliente;
 import com.br.totvs.repository.TelefoneClienteRepository;
+import com.br.totvs.repository.projection.TelefoneNumero;
 import com.br.totvs.service.message.MessageService;
+import com.br.totvs.util.Util;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -33,10 +36,16 @@ public class TelefoneClienteService extends GenericServiceAbstract<TelefoneClien
     }
 
     public Optional<TelefoneCliente> findByNumero(String numero) {
-        return repository.findByNumero(numero);
+        Long numeroChave = Util.toPhoneKey(numero);
+        return numeroChave == null ? Optional.empty() : repository.findByNumeroChave(numeroChave);
     }
 
     public Optional<Cliente> findClienteByNumero(String numero) {
-        return repository.findClienteByNumero(numero);
+        Long numeroChave = Util.toPhoneKey(numero);
+        return numeroChave == null ? Optional.empty() : repository.findClienteByNumeroChave(numeroChave);
+    }
+
+    public List<TelefoneNumero> findNumerosByClienteId(Long clienteId) {
+        return repository.findNumerosByClienteId(clienteId);
     }
 }
@@ -0,0 +1,16 @@
+package com.br.totvs.service.batch;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Erro de validação de um item de uma operação em lote.
+ *
+ * @param index   a posição do item na lista recebida
+ * @param status  o status que o item teria em uma operação individual
+ * @param message a mensagem de erro
+ */
+public record BatchError(
+        int index,
+        HttpStatus status,
+        String message
+) {}
@@ -0,0 +1,15 @@
+package com.br.totvs.service.batch;
+
+import java.util.List;
+
+/**
+ * Resultado de uma operação em lote.
+ *
+ * @param saved  as entidades salvas, na ordem em que foram recebidas
+ * @param errors os erros de validação de cada item rejeitado
+ * @param <T>    o tipo da entidade
+ */
+public record BatchResult<T>(
+        List<T> saved,
+        List<BatchError> errors
+) {}
@@ -0,0 +1,15 @@
+package com.br.totvs.service.batch;
+
+import java.util.List;
+
+/**
+ * Resultado de uma exclusão em lote.
+ *
+ * @param deleted a quantidade de entidades excluídas
+ * @param missing os ids informados que não foram encontrados, na ordem em que foram recebidos
+ * @param <ID>    o tipo do id da entidade
+ */
+public record BulkDeleteResult<ID>(
+        int deleted,
+        List<ID> missing
+) {}
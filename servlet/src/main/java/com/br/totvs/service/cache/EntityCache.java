@@ -0,0 +1,73 @@
+package com.br.totvs.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.function.Function;
+
+/**
+ * Cache de leitura de entidades por id.
+ * Os valores guardados devem ser imutáveis (ex.: {@link Versioned} com o DTO), nunca a entidade gerenciada:
+ * o valor é compartilhado por todas as leituras, inclusive as de outras sessões.
+ * Quando desabilitado, todas as leituras vão direto ao carregador.
+ *
+ * @param <ID> o tipo do id da entidade
+ * @param <T>  o tipo do valor guardado
+ * @author guilherme-oliveria
+ */
+public final class EntityCache<ID, T> {
+
+    private static final EntityCache<?, ?> DISABLED = new EntityCache<>(null);
+
+    private final Cache<ID, T> cache;
+
+    EntityCache(Cache<ID, T> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Recupera um cache desabilitado, que não guarda nenhuma entidade.
+     *
+     * @return o cache desabilitado
+     */
+    @SuppressWarnings("unchecked")
+    public static <ID, T> EntityCache<ID, T> disabled() {
+        return (EntityCache<ID, T>) DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return cache != null;
+    }
+
+    /**
+     * Recupera o valor da entidade com o id fornecido, carregando-o na primeira leitura.
+     * Uma entidade não encontrada (carregador retornando null) não é guardada.
+     *
+     * @param id     o id da entidade
+     * @param loader o carregador do valor
+     * @return o valor, ou null se a entidade não existir
+     */
+    public T get(ID id, Function<? super ID, ? extends T> loader) {
+        return cache == null ? loader.apply(id) : cache.get(id, loader);
+    }
+
+    /**
+     * Recupera o valor da entidade com o id fornecido somente se ele já estiver no cache, sem carregá-lo.
+     *
+     * @param id o id da entidade
+     * @return o valor, ou null se não estiver no cache
+     */
+    public T getIfPresent(ID id) {
+        return cache == null || id == null ? null : cache.getIfPresent(id);
+    }
+
+    /**
+     * Remove o valor da entidade com o id fornecido do cache.
+     *
+     * @param id o id da entidade
+     */
+    public void evict(ID id) {
+        if (cache != null && id != null) {
+            cache.invalidate(id);
+        }
+    }
+}
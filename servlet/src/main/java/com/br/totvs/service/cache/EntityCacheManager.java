@@ -0,0 +1,61 @@
+package com.br.totvs.service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+
+/**
+ * Cria os caches de leitura das entidades a partir das propriedades
+ * {@code app.cache.<entidade>.enabled}, {@code app.cache.<entidade>.maximum-size} e {@code app.cache.<entidade>.ttl},
+ * onde {@code <entidade>} é o nome simples da classe com a inicial minúscula (ex.: {@code app.cache.cliente.ttl=5m}).
+ * Os caches habilitados publicam as métricas {@code cache.gets}, {@code cache.evictions} e {@code cache.size}
+ * com a tag {@code cache=<entidade>}.
+ *
+ * @author guilherme-oliveria
+ */
+@Component
+public class EntityCacheManager {
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 1000;
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    public EntityCacheManager(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Cria o cache da classe de entidade fornecida, ou um cache desabilitado se ela não estiver habilitada.
+     *
+     * @param entityClass a classe da entidade
+     * @return o cache da entidade, com o tipo de valor escolhido por quem o usa
+     */
+    public <ID, T> EntityCache<ID, T> cacheFor(Class<?> entityClass) {
+        String name = StringUtils.uncapitalize(entityClass.getSimpleName());
+        String prefix = "app.cache." + name + ".";
+        if (!environment.getProperty(prefix + "enabled", Boolean.class, false)) {
+            return EntityCache.disabled();
+        }
+        Cache<ID, T> cache = Caffeine.newBuilder()
+                .maximumSize(environment.getProperty(prefix + "maximum-size", Long.class, DEFAULT_MAXIMUM_SIZE))
+                .expireAfterWrite(ttl(environment.getProperty(prefix + "ttl")))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+        return new EntityCache<>(cache);
+    }
+
+    private static Duration ttl(String value) {
+        return value == null ? DEFAULT_TTL : DurationStyle.detectAndParse(value);
+    }
+}
@@ -0,0 +1,14 @@
+package com.br.totvs.service.cache;
+
+/**
+ * Leitura de um registro pronta para exibição (ex.: o DTO) e a versão usada no ETag.
+ * É o valor guardado pelo {@link EntityCache}: imutável e desligado da sessão, de modo que as leituras
+ * compartilham o mesmo valor sem compartilhar a entidade gerenciada que as gravações alteram.
+ *
+ * @param value   o registro
+ * @param version a versão do registro, ou null quando o registro não possui versão
+ * @param <V>     o tipo do registro
+ * @author guilherme-oliveria
+ */
+public record Versioned<V>(V value, Long version) {
+}
@@ -0,0 +1,17 @@
+package com.br.totvs.service.change;
+
+import com.br.totvs.model.EntityChange;
+
+/**
+ * Alteração de uma entidade lida do log de alterações.
+ *
+ * @param token o token da alteração, a partir do qual a leitura pode ser retomada
+ * @param type  o tipo da alteração
+ * @param id    o id da entidade alterada
+ * @param <ID>  o tipo do id da entidade
+ */
+public record Change<ID>(
+        String token,
+        EntityChange.Type type,
+        ID id
+) {}
@@ -0,0 +1,148 @@
+package com.br.totvs.service.change;
+
+import com.br.totvs.model.EntityChange;
+import com.br.totvs.repository.EntityChangeRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Log de alterações das entidades, usado para sincronizar cópias dos dados sem reler as tabelas inteiras.
+ * Cada gravação registra, na mesma transação, uma linha em {@link EntityChange} com uma sequência crescente.
+ * <p>
+ * As sequências são atribuídas antes do commit, então uma transação pode terminar depois de outra que recebeu uma
+ * sequência maior. Para que uma leitura nunca salte uma alteração ainda não confirmada, as leituras vão somente até a
+ * sequência anterior à menor sequência pendente. As sequências são controladas em memória, o que supõe uma única
+ * instância da aplicação gravando no banco de dados.
+ *
+ * @author guilherme-oliveria
+ */
+@Component
+public class ChangeFeed {
+
+    private static final ChangeFeed DISABLED = new ChangeFeed();
+
+    private final EntityChangeRepository repository;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TreeSet<Long> pending = new TreeSet<>();
+    private long lastSequence = -1;
+
+    private ChangeFeed() {
+        this.repository = null;
+        this.entityManager = null;
+        this.eventPublisher = null;
+    }
+
+    @Autowired
+    public ChangeFeed(EntityChangeRepository repository, EntityManager entityManager, ApplicationEventPublisher eventPublisher) {
+        this.repository = repository;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Recupera um log desabilitado, que não registra nenhuma alteração.
+     *
+     * @return o log desabilitado
+     */
+    public static ChangeFeed disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Registra a alteração da entidade com o id fornecido na transação atual e publica um {@link EntityChangeEvent}.
+     * Deve ser chamado dentro de uma transação.
+     *
+     * @param entityClass a classe da entidade
+     * @param id          o id da entidade
+     * @param type        o tipo da alteração
+     */
+    public void record(Class<?> entityClass, Object id, EntityChange.Type type) {
+        recordAll(entityClass, List.of(id), type);
+    }
+
+    /**
+     * Registra a alteração das entidades com os ids fornecidos na transação atual e publica um único
+     * {@link EntityChangeEvent}. As sequências são reservadas em um bloco, liberado de uma só vez ao término da transação.
+     * Deve ser chamado dentro de uma transação.
+     *
+     * @param entityClass a classe da entidade
+     * @param ids         os ids das entidades
+     * @param type        o tipo da alteração
+     */
+    public void recordAll(Class<?> entityClass, Collection<?> ids, EntityChange.Type type) {
+        if (repository == null || ids.isEmpty()) {
+            return;
+        }
+        long first = nextSequences(ids.size());
+        long last = first + ids.size() - 1;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                // chamado uma única vez, tanto no commit quanto no rollback
+                release(first, last);
+            }
+        });
+        Instant now = Instant.now();
+        long sequence = first;
+        for (Object id : ids) {
+            entityManager.persist(new EntityChange(sequence++, entityClass.getSimpleName(), String.valueOf(id), type, now));
+        }
+        eventPublisher.publishEvent(new EntityChangeEvent(entityClass, last));
+    }
+
+    /**
+     * Recupera as alterações da entidade posteriores à sequência fornecida, até a última sequência já confirmada.
+     *
+     * @param entityClass a classe da entidade
+     * @param after       a última sequência já lida
+     * @param limit       quantidade máxima de alterações
+     * @return as alterações, ordenadas pela sequência
+     */
+    public List<EntityChange> read(Class<?> entityClass, long after, int limit) {
+        if (repository == null) {
+            return List.of();
+        }
+        return repository.findChanges(entityClass.getSimpleName(), after, committedSequence(), Limit.of(limit));
+    }
+
+    /**
+     * Recupera a maior sequência até a qual todas as alterações já foram confirmadas.
+     * Uma cópia lida depois desta chamada já contém todas as alterações até essa sequência.
+     *
+     * @return a sequência
+     */
+    public synchronized long committedSequence() {
+        initialize();
+        return pending.isEmpty() ? lastSequence : pending.first() - 1;
+    }
+
+    private synchronized long nextSequences(int count) {
+        initialize();
+        long first = lastSequence + 1;
+        for (int i = 0; i < count; i++) {
+            pending.add(++lastSequence);
+        }
+        return first;
+    }
+
+    private synchronized void release(long first, long last) {
+        pending.subSet(first, true, last, true).clear();
+    }
+
+    private void initialize() {
+        if (lastSequence < 0) {
+            lastSequence = repository == null ? 0 : repository.findMaxSequencia().orElse(0L);
+        }
+    }
+}
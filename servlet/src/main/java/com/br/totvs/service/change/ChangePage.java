@@ -0,0 +1,15 @@
+package com.br.totvs.service.change;
+
+import java.util.List;
+
+/**
+ * Alterações lidas do log a partir de um token.
+ *
+ * @param changes   as alterações, uma por entidade (a mais recente), ordenadas pela sequência
+ * @param nextToken o token a ser enviado na próxima leitura
+ * @param <ID>      o tipo do id da entidade
+ */
+public record ChangePage<ID>(
+        List<Change<ID>> changes,
+        String nextToken
+) {}
@@ -0,0 +1,13 @@
+package com.br.totvs.service.change;
+
+/**
+ * Evento publicado pelo {@link ChangeFeed} a cada alteração gravada.
+ * Os ouvintes devem usar {@code @TransactionalEventListener}, que entrega o evento somente depois do commit.
+ *
+ * @param entityClass a classe da entidade alterada
+ * @param sequence    a sequência da alteração
+ */
+public record EntityChangeEvent(
+        Class<?> entityClass,
+        long sequence
+) {}
@@ -0,0 +1,124 @@
+package com.br.totvs.service.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limite adaptativo de requisições simultâneas (AIMD: aumento aditivo, redução multiplicativa).
+ * <p>
+ * Uma requisição só é admitida enquanto a quantidade em andamento for menor que o limite; acima dele é rejeitada
+ * imediatamente, sem aguardar, para que a fila se forme no cliente e não no pool de conexões.
+ * Cada requisição concluída ajusta o limite: uma requisição lenta (acima de {@code latencyThreshold}) ou com falha
+ * multiplica o limite por {@code backoffRatio}, no máximo uma vez por "janela" (requisições iniciadas antes da última
+ * redução já estavam na fila que a causou e não reduzem de novo); uma requisição rápida, com o limite em uso
+ * (ao menos metade ocupada), soma {@code 1 / limite}, ou seja, no máximo uma unidade por janela completa.
+ *
+ * @author guilherme-oliveria
+ */
+public class AimdLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    /**
+     * Estimativa do limite, alterada somente no {@code synchronized} de {@link #onSample}
+     */
+    private double estimate;
+    private long lastDecreaseNanos;
+    private volatile int limit;
+
+    public AimdLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio, long latencyThresholdNanos) {
+        if (minLimit < 1 || minLimit > maxLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Limites inválidos: min=" + minLimit + ", max=" + maxLimit + ", backoffRatio=" + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.estimate = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimate;
+        this.lastDecreaseNanos = System.nanoTime();
+    }
+
+    /**
+     * Admite uma requisição, caso a quantidade em andamento seja menor que o limite.
+     *
+     * @return a permissão da requisição, a ser liberada ao fim dela, ou null caso o limite tenha sido atingido
+     */
+    public Permit tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= limit) {
+                return null;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return new Permit(System.nanoTime(), current + 1);
+            }
+        }
+    }
+
+    /**
+     * Recupera o limite atual.
+     *
+     * @return o limite
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Recupera a quantidade de requisições em andamento.
+     *
+     * @return a quantidade em andamento
+     */
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    private synchronized void onSample(Permit permit, long endNanos, boolean dropped) {
+        if (dropped || endNanos - permit.startNanos > latencyThresholdNanos) {
+            if (permit.startNanos - lastDecreaseNanos >= 0) {
+                estimate = Math.max(minLimit, estimate * backoffRatio);
+                lastDecreaseNanos = endNanos;
+            }
+        } else if (permit.inflight * 2 >= estimate) {
+            estimate = Math.min(maxLimit, estimate + 1 / estimate);
+        }
+        limit = (int) estimate;
+    }
+
+    /**
+     * Permissão de uma requisição admitida. Deve ser liberada uma única vez, por {@link #release(boolean)}
+     * quando a requisição é uma amostra válida da latência, ou por {@link #release()} caso contrário.
+     */
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inflight;
+
+        private Permit(long startNanos, int inflight) {
+            this.startNanos = startNanos;
+            this.inflight = inflight;
+        }
+
+        /**
+         * Libera a permissão e ajusta o limite pela latência da requisição.
+         *
+         * @param dropped se a requisição falhou por sobrecarga (ex.: timeout ao obter uma conexão)
+         */
+        public void release(boolean dropped) {
+            onSample(this, System.nanoTime(), dropped);
+            AimdLimiter.this.inflight.decrementAndGet();
+        }
+
+        /**
+         * Libera a permissão sem ajustar o limite (ex.: respostas assíncronas, cuja duração não é a do processamento).
+         */
+        public void release() {
+            AimdLimiter.this.inflight.decrementAndGet();
+        }
+    }
+}
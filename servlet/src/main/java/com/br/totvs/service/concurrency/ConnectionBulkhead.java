@@ -0,0 +1,58 @@
+package com.br.totvs.service.concurrency;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limita a quantidade de requisições que usam o banco de dados ao mesmo tempo, de modo que elas não disputem
+ * mais conexões do que o pool possui. Com threads virtuais a quantidade de requisições em andamento deixa de ser
+ * limitada pelas threads do Tomcat, e o limite passa a ser aplicado aqui.
+ * <p>
+ * A permissão deve ser obtida antes de qualquer transação (ex.: em um filtro da requisição), para que a espera
+ * aconteça sem uma conexão em uso, e liberada somente depois que a requisição deixar de usar o banco.
+ *
+ * @author guilherme-oliveria
+ */
+public class ConnectionBulkhead {
+
+    private final Semaphore permits;
+    private final long timeoutNanos;
+
+    public ConnectionBulkhead(int permits, long timeoutNanos) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("Quantidade de permissões inválida: " + permits);
+        }
+        this.permits = new Semaphore(permits, true);
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    /**
+     * Obtém uma permissão, aguardando no máximo o tempo limite quando todas estiverem em uso.
+     *
+     * @return true se a permissão foi obtida, e deve ser liberada por {@link #release()}; false caso contrário
+     */
+    public boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Libera uma permissão obtida por {@link #tryAcquire()}.
+     */
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * Recupera a quantidade de permissões livres.
+     *
+     * @return a quantidade de permissões livres
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+}
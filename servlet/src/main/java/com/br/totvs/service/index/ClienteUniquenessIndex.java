@@ -0,0 +1,177 @@
+package com.br.totvs.service.index;
+
+import com.br.totvs.repository.projection.ClienteNome;
+import com.br.totvs.repository.projection.TelefoneNumero;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Índice em memória dos nomes e telefones dos clientes, usado para responder às verificações de duplicidade
+ * sem consultar o banco de dados.
+ * Cada nome e cada telefone (pela chave numérica) é mapeado para o id do cliente dono.
+ * O índice é carregado na inicialização ({@link ClienteUniquenessIndexLoader}) e mantido pelos eventos
+ * de ciclo de vida das entidades ({@link ClienteUniquenessIndexListener}), aplicados após o commit.
+ * <p>
+ * Como os eventos só são aplicados após o commit, duas transações concorrentes podem encontrar a mesma chave livre;
+ * o índice apenas evita a consulta ao banco no caso comum, e a unicidade é garantida pelas restrições
+ * {@code uk_cliente_nome} e {@code uk_telefone_cliente_numero_chave}, cuja violação é convertida em erro pelo serviço.
+ *
+ * @author guilherme-oliveria
+ */
+@Component
+public class ClienteUniquenessIndex {
+
+    private final Map<String, Long> clientePorNome = new ConcurrentHashMap<>();
+    private final Map<Long, String> nomePorCliente = new ConcurrentHashMap<>();
+    private final Map<Long, Long> clientePorNumero = new ConcurrentHashMap<>();
+    private final Map<Long, TelefoneNumero> numeroPorTelefone = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    private volatile boolean ready;
+
+    public ClienteUniquenessIndex(MeterRegistry meterRegistry) {
+        this.hits = Counter.builder("cliente.uniqueness.index.lookups")
+                .description("Consultas ao índice de unicidade que encontraram a chave")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("cliente.uniqueness.index.lookups")
+                .description("Consultas ao índice de unicidade que não encontraram a chave")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("cliente.uniqueness.index.size", clientePorNome, Map::size)
+                .description("Quantidade de chaves no índice de unicidade")
+                .tag("key", "nome")
+                .register(meterRegistry);
+        Gauge.builder("cliente.uniqueness.index.size", clientePorNumero, Map::size)
+                .description("Quantidade de chaves no índice de unicidade")
+                .tag("key", "telefone")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Indica se o índice já foi carregado e pode responder às consultas.
+     *
+     * @return true se o índice está pronto
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Verifica se o nome e os telefones fornecidos estão livres, ou pertencem ao próprio cliente.
+     *
+     * @param clienteId o id do cliente validado, ou null para um novo cliente
+     * @param nome      o nome do cliente
+     * @param chaves    as chaves numéricas dos telefones do cliente
+     * @return true se nenhuma das chaves pertence a outro cliente
+     */
+    public boolean isFree(Long clienteId, String nome, Collection<Long> chaves) {
+        if (!isFreeFor(clienteId, clientePorNome.get(nome))) {
+            return false;
+        }
+        for (Long chave : chaves) {
+            if (!isFreeFor(clienteId, clientePorNumero.get(chave))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isFreeFor(Long clienteId, Long dono) {
+        if (dono == null) {
+            misses.increment();
+            return true;
+        }
+        hits.increment();
+        return dono.equals(clienteId);
+    }
+
+    /**
+     * Carrega o índice com os nomes e telefones existentes e o marca como pronto.
+     *
+     * @param nomes     os nomes dos clientes
+     * @param telefones os telefones dos clientes
+     */
+    public synchronized void load(Collection<ClienteNome> nomes, Collection<TelefoneNumero> telefones) {
+        for (ClienteNome clienteNome : nomes) {
+            nomePorCliente.putIfAbsent(clienteNome.id(), clienteNome.nome());
+            clientePorNome.putIfAbsent(clienteNome.nome(), clienteNome.id());
+        }
+        for (TelefoneNumero telefone : telefones) {
+            numeroPorTelefone.putIfAbsent(telefone.id(), telefone);
+            clientePorNumero.putIfAbsent(telefone.numeroChave(), telefone.clienteId());
+        }
+        ready = true;
+    }
+
+    /**
+     * Registra o nome de um cliente salvo, removendo o nome anterior.
+     *
+     * @param clienteId o id do cliente
+     * @param nome      o nome do cliente
+     */
+    public synchronized void putCliente(Long clienteId, String nome) {
+        String anterior = nomePorCliente.put(clienteId, nome);
+        if (anterior != null && !anterior.equals(nome)) {
+            clientePorNome.remove(anterior, clienteId);
+        }
+        clientePorNome.put(nome, clienteId);
+    }
+
+    /**
+     * Remove o nome de um cliente excluído.
+     *
+     * @param clienteId o id do cliente
+     */
+    public synchronized void removeCliente(Long clienteId) {
+        String nome = nomePorCliente.remove(clienteId);
+        if (nome != null) {
+            clientePorNome.remove(nome, clienteId);
+        }
+    }
+
+    /**
+     * Registra o número de um telefone salvo, removendo o número anterior.
+     *
+     * @param telefone o telefone salvo
+     */
+    public synchronized void putTelefone(TelefoneNumero telefone) {
+        TelefoneNumero anterior = numeroPorTelefone.put(telefone.id(), telefone);
+        if (anterior != null && !Objects.equals(anterior.numeroChave(), telefone.numeroChave())) {
+            clientePorNumero.remove(anterior.numeroChave(), anterior.clienteId());
+        }
+        clientePorNumero.put(telefone.numeroChave(), telefone.clienteId());
+    }
+
+    /**
+     * Remove o número de um telefone excluído.
+     *
+     * @param telefoneId o id do telefone
+     */
+    public synchronized void removeTelefone(Long telefoneId) {
+        TelefoneNumero anterior = numeroPorTelefone.remove(telefoneId);
+        if (anterior != null) {
+            clientePorNumero.remove(anterior.numeroChave(), anterior.clienteId());
+        }
+    }
+
+    /**
+     * Remove os nomes dos clientes e os números dos telefones excluídos em lote.
+     *
+     * @param clienteIds  os ids dos clientes
+     * @param telefoneIds os ids dos telefones
+     */
+    public synchronized void removeClientes(Collection<Long> clienteIds, Collection<Long> telefoneIds) {
+        telefoneIds.forEach(this::removeTelefone);
+        clienteIds.forEach(this::removeCliente);
+    }
+}
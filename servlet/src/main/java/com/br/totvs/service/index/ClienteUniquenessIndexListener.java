@@ -0,0 +1,66 @@
+package com.br.totvs.service.index;
+
+import com.br.totvs.model.Cliente;
+import com.br.totvs.model.TelefoneCliente;
+import com.br.totvs.repository.projection.TelefoneNumero;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Listener JPA que mantém o {@link ClienteUniquenessIndex} coerente com as gravações de
+ * {@link Cliente} e {@link TelefoneCliente}.
+ * Os valores são capturados no evento e aplicados ao índice somente após o commit da transação,
+ * de modo que um rollback não deixa chaves no índice.
+ *
+ * @author guilherme-oliveria
+ */
+@Component
+public class ClienteUniquenessIndexListener {
+
+    private final ClienteUniquenessIndex index;
+
+    public ClienteUniquenessIndexListener(ClienteUniquenessIndex index) {
+        this.index = index;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Object entity) {
+        if (entity instanceof Cliente cliente) {
+            Long id = cliente.getId();
+            String nome = cliente.getNome();
+            afterCommit(() -> index.putCliente(id, nome));
+        } else if (entity instanceof TelefoneCliente telefone && telefone.getCliente() != null) {
+            TelefoneNumero numero = new TelefoneNumero(telefone.getId(), telefone.getCliente().getId(), telefone.getNumeroChave());
+            afterCommit(() -> index.putTelefone(numero));
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Object entity) {
+        if (entity instanceof Cliente cliente) {
+            Long id = cliente.getId();
+            afterCommit(() -> index.removeCliente(id));
+        } else if (entity instanceof TelefoneCliente telefone) {
+            Long id = telefone.getId();
+            afterCommit(() -> index.removeTelefone(id));
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package com.br.totvs.service.index;
+
+import com.br.totvs.repository.ClienteRepository;
+import com.br.totvs.repository.TelefoneClienteRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Carrega o {@link ClienteUniquenessIndex} com os nomes e telefones já gravados
+ * quando a aplicação termina de iniciar.
+ *
+ * @author guilherme-oliveria
+ */
+@Component
+public class ClienteUniquenessIndexLoader {
+
+    private final ClienteUniquenessIndex index;
+    private final ClienteRepository clienteRepository;
+    private final TelefoneClienteRepository telefoneClienteRepository;
+
+    public ClienteUniquenessIndexLoader(ClienteUniquenessIndex index, ClienteRepository clienteRepository,
+                                        TelefoneClienteRepository telefoneClienteRepository) {
+        this.index = index;
+        this.clienteRepository = clienteRepository;
+        this.telefoneClienteRepository = telefoneClienteRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        index.load(clienteRepository.findAllNomes(), telefoneClienteRepository.findAllNumeros());
+    }
+}
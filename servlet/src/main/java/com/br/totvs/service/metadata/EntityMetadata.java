@@ -0,0 +1,377 @@
+package com.br.totvs.service.metadata;
+
+import com.br.totvs.model.interfaces.ChildEntity;
+import com.br.totvs.model.interfaces.Derived;
+import com.br.totvs.model.interfaces.NaturalKey;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Metadados de acesso de uma classe de entidade.
+ * Os campos são resolvidos por reflexão uma única vez por classe e expostos como {@link MethodHandle},
+ * de modo que as operações de escrita não percorrem a hierarquia nem chamam setAccessible novamente.
+ *
+ * @author guilherme-oliveria
+ */
+public final class EntityMetadata {
+
+    private static final ClassValue<EntityMetadata> REGISTRY = new ClassValue<>() {
+        @Override
+        protected EntityMetadata computeValue(Class<?> type) {
+            return new EntityMetadata(type);
+        }
+    };
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> entityClass;
+    private final MethodHandle idGetter;
+    private final MethodHandle idSetter;
+    private final MethodHandle versionGetter;
+    private final MethodHandle versionSetter;
+    private final MethodHandle naturalKeyGetter;
+    private final List<ChildCollection> childCollections;
+    private final List<ScalarField> scalarFields;
+
+    private EntityMetadata(Class<?> entityClass) {
+        this.entityClass = entityClass;
+        Field id = null;
+        Field version = null;
+        MethodHandle naturalKey = null;
+        List<ChildCollection> children = new ArrayList<>();
+        List<ScalarField> scalars = new ArrayList<>();
+        boolean persistent = entityClass.isAnnotationPresent(Entity.class);
+        Class<?> clazz = entityClass;
+        while (clazz != null && clazz != Object.class) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                if (id == null && field.isAnnotationPresent(Id.class)) {
+                    id = field;
+                } else if (version == null && field.isAnnotationPresent(Version.class)) {
+                    version = field;
+                } else if (isChildCollection(field)) {
+                    children.add(new ChildCollection(field.getName(), getter(field), setter(field), elementType(field), mappedBy(field)));
+                } else if (persistent && isScalar(field)) {
+                    scalars.add(new ScalarField(field.getName(), getter(field), setter(field)));
+                }
+                if (naturalKey == null && field.isAnnotationPresent(NaturalKey.class)) {
+                    naturalKey = getter(field);
+                }
+            }
+            clazz = clazz.getSuperclass();
+        }
+        this.idGetter = id == null ? null : getter(id);
+        this.idSetter = id == null ? null : setter(id);
+        this.versionGetter = version == null ? null : getter(version);
+        this.versionSetter = version == null ? null : setter(version);
+        this.naturalKeyGetter = naturalKey != null ? naturalKey : idGetter;
+        this.childCollections = List.copyOf(children);
+        this.scalarFields = List.copyOf(scalars);
+    }
+
+    /**
+     * Recupera os metadados da classe fornecida, resolvendo-os na primeira chamada.
+     *
+     * @param entityClass a classe da entidade
+     * @return os metadados da classe
+     */
+    public static EntityMetadata of(Class<?> entityClass) {
+        return REGISTRY.get(entityClass);
+    }
+
+    public Class<?> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * Indica se a classe possui um campo anotado com {@link Id}.
+     *
+     * @return true se o campo @Id foi encontrado
+     */
+    public boolean hasId() {
+        return idGetter != null;
+    }
+
+    /**
+     * Recupera o valor do campo @Id da entidade fornecida.
+     *
+     * @param entity a entidade
+     * @return o valor do id
+     * @throws IllegalStateException caso não seja possível ler o campo
+     */
+    public Object getId(Object entity) {
+        return invoke(idGetter, entity);
+    }
+
+    /**
+     * Atribui o valor do campo @Id da entidade fornecida, se a classe possuir id.
+     *
+     * @param entity a entidade
+     * @param id     o id
+     * @throws IllegalStateException caso não seja possível escrever o campo
+     */
+    public void setId(Object entity, Object id) {
+        if (idSetter != null) {
+            invoke(idSetter, entity, id);
+        }
+    }
+
+    /**
+     * Indica se a classe possui um campo anotado com {@link Version}.
+     *
+     * @return true se o campo @Version foi encontrado
+     */
+    public boolean hasVersion() {
+        return versionGetter != null;
+    }
+
+    /**
+     * Recupera o valor do campo @Version da entidade fornecida.
+     *
+     * @param entity a entidade
+     * @return a versão, ou null se a classe não possui versão
+     * @throws IllegalStateException caso não seja possível ler o campo
+     */
+    public Object getVersion(Object entity) {
+        return versionGetter == null ? null : invoke(versionGetter, entity);
+    }
+
+    /**
+     * Atribui o valor do campo @Version da entidade fornecida, se a classe possuir versão.
+     *
+     * @param entity  a entidade
+     * @param version a versão
+     * @throws IllegalStateException caso não seja possível escrever o campo
+     */
+    public void setVersion(Object entity, Object version) {
+        if (versionSetter != null) {
+            invoke(versionSetter, entity, version);
+        }
+    }
+
+    /**
+     * Recupera o valor do campo anotado com {@link NaturalKey} da entidade fornecida,
+     * ou o id quando a classe não declara uma chave natural.
+     *
+     * @param entity a entidade
+     * @return o valor da chave natural
+     * @throws IllegalStateException caso não seja possível ler o campo
+     */
+    public Object getNaturalKey(Object entity) {
+        return invoke(naturalKeyGetter, entity);
+    }
+
+    /**
+     * Recupera as coleções de entidades filhas ({@link ChildEntity}) da classe.
+     *
+     * @return as coleções de entidades filhas
+     */
+    public List<ChildCollection> getChildCollections() {
+        return childCollections;
+    }
+
+    /**
+     * Copia para a entidade de destino os campos da entidade de origem que tenham valores diferentes.
+     * Os campos simples são comparados um a um e somente os alterados são atribuídos, de modo que o
+     * dirty checking do Hibernate só gera UPDATE para o que de fato mudou. As coleções de filhos são comparadas
+     * pela chave natural ({@link NaturalKey}): os filhos com a mesma chave mantêm a sua instância (e o seu id)
+     * e recebem apenas os campos alterados, os novos são adicionados com a referência ao pai e os ausentes
+     * na origem são removidos da coleção. O id, a versão, os campos {@link Derived} e as referências ao pai não são copiados.
+     *
+     * @param source a entidade com os novos valores
+     * @param target a entidade gerenciada a ser atualizada
+     * @return true se algum campo ou coleção da entidade de destino foi alterado
+     * @throws IllegalStateException caso não seja possível ler ou escrever algum campo
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public boolean copyChanges(Object source, Object target) {
+        boolean changed = copyScalars(source, target);
+        for (ChildCollection childCollection : childCollections) {
+            Collection<?> sourceChildren = childCollection.get(source);
+            Collection<Object> targetChildren = (Collection<Object>) childCollection.get(target);
+            if (sourceChildren == null) {
+                sourceChildren = List.of();
+            }
+            if (targetChildren == null) {
+                if (sourceChildren.isEmpty()) {
+                    continue;
+                }
+                targetChildren = new ArrayList<>(sourceChildren.size());
+                childCollection.set(target, targetChildren);
+            }
+            EntityMetadata childMetadata = of(childCollection.elementType());
+            Map<Object, Object> sourceByKey = new HashMap<>();
+            for (Object child : sourceChildren) {
+                sourceByKey.putIfAbsent(childMetadata.getNaturalKey(child), child);
+            }
+            for (Iterator<Object> iterator = targetChildren.iterator(); iterator.hasNext(); ) {
+                Object existing = iterator.next();
+                Object incoming = sourceByKey.remove(childMetadata.getNaturalKey(existing));
+                if (incoming == null) {
+                    iterator.remove();
+                    changed = true;
+                } else {
+                    changed |= childMetadata.copyScalars(incoming, existing);
+                }
+            }
+            for (Object child : sourceChildren) {
+                if (sourceByKey.remove(childMetadata.getNaturalKey(child)) != null) {
+                    childMetadata.setId(child, null);
+                    ((ChildEntity) child).setParent(target);
+                    targetChildren.add(child);
+                    changed = true;
+                }
+            }
+        }
+        return changed;
+    }
+
+    private boolean copyScalars(Object source, Object target) {
+        boolean changed = false;
+        for (ScalarField field : scalarFields) {
+            Object value = field.get(source);
+            if (!Objects.equals(value, field.get(target))) {
+                field.set(target, value);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Coleção de entidades filhas declarada na entidade pai.
+     *
+     * @param name        o nome do campo
+     * @param getter      o acessor do campo
+     * @param setter      o modificador do campo
+     * @param elementType a classe das entidades filhas
+     * @param mappedBy    o campo das entidades filhas que referencia o pai ({@link OneToMany#mappedBy()}), ou null
+     */
+    public record ChildCollection(String name, MethodHandle getter, MethodHandle setter, Class<?> elementType, String mappedBy) {
+
+        /**
+         * Recupera a coleção de filhos da entidade fornecida.
+         *
+         * @param entity a entidade pai
+         * @return a coleção de filhos, ou null
+         * @throws IllegalStateException caso não seja possível ler o campo
+         */
+        public Collection<?> get(Object entity) {
+            return (Collection<?>) invoke(getter, entity);
+        }
+
+        /**
+         * Atribui a coleção de filhos da entidade fornecida.
+         *
+         * @param entity   a entidade pai
+         * @param children a coleção de filhos
+         * @throws IllegalStateException caso não seja possível escrever o campo
+         */
+        public void set(Object entity, Collection<?> children) {
+            invoke(setter, entity, children);
+        }
+    }
+
+    /**
+     * Campo simples de uma classe anotada com {@link Entity} (sem id, versão, coleções ou referências a outras
+     * entidades), copiado nas atualizações parciais.
+     */
+    private record ScalarField(String name, MethodHandle getter, MethodHandle setter) {
+
+        Object get(Object entity) {
+            return invoke(getter, entity);
+        }
+
+        void set(Object entity, Object value) {
+            invoke(setter, entity, value);
+        }
+    }
+
+    private static Object invoke(MethodHandle getter, Object entity) {
+        try {
+            return getter.invokeExact(entity);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private static void invoke(MethodHandle setter, Object entity, Object value) {
+        try {
+            setter.invokeExact(entity, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private static boolean isChildCollection(Field field) {
+        if (!Collection.class.isAssignableFrom(field.getType())
+                || !(field.getGenericType() instanceof ParameterizedType genericType)) {
+            return false;
+        }
+        Type elementType = genericType.getActualTypeArguments()[0];
+        return elementType instanceof Class<?> elementClass && ChildEntity.class.isAssignableFrom(elementClass);
+    }
+
+    private static Class<?> elementType(Field field) {
+        return (Class<?>) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+    }
+
+    private static String mappedBy(Field field) {
+        OneToMany oneToMany = field.getAnnotation(OneToMany.class);
+        return oneToMany == null || oneToMany.mappedBy().isEmpty() ? null : oneToMany.mappedBy();
+    }
+
+    private static boolean isScalar(Field field) {
+        return !Modifier.isFinal(field.getModifiers())
+                && !field.isAnnotationPresent(Version.class)
+                && !field.isAnnotationPresent(Transient.class)
+                && !field.isAnnotationPresent(Derived.class)
+                && !Modifier.isTransient(field.getModifiers())
+                && !Collection.class.isAssignableFrom(field.getType())
+                && !Map.class.isAssignableFrom(field.getType())
+                && !Entity.class.isAssignableFrom(field.getType());
+    }
+
+    private static MethodHandle getter(Field field) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            return lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    private static MethodHandle setter(Field field) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            return lookup.unreflectSetter(field).asType(SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.br.totvs.service.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fornece os {@link PhaseTimers} de cada classe de entidade, registrados uma única vez por classe.
+ *
+ * @author guilherme-oliveria
+ */
+@Component
+public class EntityMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, PhaseTimers> timers = new ConcurrentHashMap<>();
+
+    public EntityMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Recupera os timers das fases da classe de entidade fornecida.
+     *
+     * @param entityClass a classe da entidade
+     * @return os timers da entidade
+     */
+    public PhaseTimers timersFor(Class<?> entityClass) {
+        return timers.computeIfAbsent(entityClass, type -> PhaseTimers.register(meterRegistry, type.getSimpleName()));
+    }
+}
@@ -0,0 +1,103 @@
+package com.br.totvs.service.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Timers das fases de processamento de uma entidade (métrica {@code entity.phase}, tags {@code entity} e {@code phase}).
+ * Quando desabilitado, as ações são executadas sem medição.
+ *
+ * @author guilherme-oliveria
+ */
+public final class PhaseTimers {
+
+    public static final String VALIDATE = "validate";
+    public static final String PERSIST = "persist";
+    public static final String MAP = "map";
+    public static final String SERIALIZE = "serialize";
+
+    private static final PhaseTimers DISABLED = new PhaseTimers(null, null, null, null);
+
+    private final Timer validate;
+    private final Timer persist;
+    private final Timer map;
+    private final Timer serialize;
+
+    private PhaseTimers(Timer validate, Timer persist, Timer map, Timer serialize) {
+        this.validate = validate;
+        this.persist = persist;
+        this.map = map;
+        this.serialize = serialize;
+    }
+
+    /**
+     * Registra os timers das fases da entidade fornecida.
+     *
+     * @param meterRegistry o registro de métricas
+     * @param entityName    o nome da entidade
+     * @return os timers da entidade
+     */
+    static PhaseTimers register(MeterRegistry meterRegistry, String entityName) {
+        return new PhaseTimers(timer(meterRegistry, entityName, VALIDATE), timer(meterRegistry, entityName, PERSIST),
+                timer(meterRegistry, entityName, MAP), timer(meterRegistry, entityName, SERIALIZE));
+    }
+
+    /**
+     * Recupera timers desabilitados, que apenas executam as ações.
+     *
+     * @return os timers desabilitados
+     */
+    public static PhaseTimers disabled() {
+        return DISABLED;
+    }
+
+    public <R> R validate(Supplier<R> action) {
+        return record(validate, action);
+    }
+
+    public void validate(Runnable action) {
+        record(validate, action);
+    }
+
+    public <R> R persist(Supplier<R> action) {
+        return record(persist, action);
+    }
+
+    public <R> R map(Supplier<R> action) {
+        return record(map, action);
+    }
+
+    /**
+     * Registra a duração de uma serialização, medida por quem escreve a resposta.
+     *
+     * @param nanos a duração em nanossegundos
+     */
+    public void recordSerialize(long nanos) {
+        if (serialize != null) {
+            serialize.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static <R> R record(Timer timer, Supplier<R> action) {
+        return timer == null ? action.get() : timer.record(action);
+    }
+
+    private static void record(Timer timer, Runnable action) {
+        if (timer == null) {
+            action.run();
+        } else {
+            timer.record(action);
+        }
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String entityName, String phase) {
+        return Timer.builder("entity.phase")
+                .description("Tempo de cada fase do processamento de uma entidade")
+                .tag("entity", entityName)
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,56 @@
+package com.br.totvs.service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conta os comandos SQL preparados pelo Hibernate (métrica {@code sql.prepared.statements}) e,
+ * entre {@link #start()} e {@link #stop()}, os comandos preparados pela thread corrente.
+ * O {@link StatementInspector} é chamado uma vez por comando preparado, e não por execução: um lote JDBC
+ * (hibernate.jdbc.batch_size) conta como um único comando, qualquer que seja a quantidade de linhas enviadas.
+ *
+ * @author guilherme-oliveria
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    private final Counter total;
+
+    public SqlStatementCounter(MeterRegistry meterRegistry) {
+        this.total = Counter.builder("sql.prepared.statements")
+                .description("Quantidade de comandos SQL preparados")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        total.increment();
+        int[] count = CURRENT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Inicia a contagem dos comandos preparados pela thread corrente.
+     */
+    public void start() {
+        CURRENT.set(new int[1]);
+    }
+
+    /**
+     * Encerra a contagem da thread corrente.
+     *
+     * @return a quantidade de comandos preparados desde {@link #start()}
+     */
+    public int stop() {
+        int[] count = CURRENT.get();
+        CURRENT.remove();
+        return count == null ? 0 : count[0];
+    }
+}
@@ -0,0 +1,15 @@
+package com.br.totvs.service.page;
+
+import java.util.List;
+
+/**
+ * Página de entidades obtida por paginação por chave.
+ *
+ * @param content    as entidades da página, ordenadas pelo id
+ * @param nextCursor cursor opaco da próxima página, ou null quando não há mais registros
+ * @param <T>        o tipo da entidade
+ */
+public record KeysetPage<T>(
+        List<T> content,
+        String nextCursor
+) {}
@@ -0,0 +1,35 @@
+package com.br.totvs.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Classe utilitária para codificação dos cursores de paginação
+ */
+public class CursorUtil {
+
+    private CursorUtil() {
+    }
+
+    /**
+     * Codifica o valor fornecido em um cursor opaco.
+     *
+     * @param value o valor a ser codificado
+     * @return o cursor
+     */
+    public static String encode(Object value) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica o cursor fornecido.
+     *
+     * @param cursor o cursor
+     * @return o valor do cursor
+     * @throws IllegalArgumentException caso o cursor não seja válido
+     */
+    public static String decode(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+}
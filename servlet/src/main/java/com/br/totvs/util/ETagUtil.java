@@ -0,0 +1,75 @@
+package com.br.totvs.util;
+
+/**
+ * Classe utilitária para os ETags derivados da versão das entidades
+ */
+public class ETagUtil {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETagUtil() {
+    }
+
+    /**
+     * Formata a versão fornecida como um ETag forte.
+     *
+     * @param version a versão da entidade
+     * @return o ETag, ou null quando a entidade não possui versão
+     */
+    public static String format(Object version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    /**
+     * Recupera a versão de um cabeçalho If-Match com um único ETag forte, no formato de {@link #format(Object)}.
+     *
+     * @param header o valor do cabeçalho
+     * @return a versão, ou null quando o cabeçalho traz {@code *}, mais de um ETag, um ETag fraco ou um valor que não é uma versão
+     */
+    public static Long parseVersion(String header) {
+        if (header == null) {
+            return null;
+        }
+        String candidate = header.trim();
+        if (candidate.length() < 3 || candidate.charAt(0) != '"' || candidate.charAt(candidate.length() - 1) != '"') {
+            return null;
+        }
+        try {
+            return Long.valueOf(candidate.substring(1, candidate.length() - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Verifica se o ETag fornecido atende ao cabeçalho If-Match ou If-None-Match.
+     * O cabeçalho pode conter {@code *} ou uma lista de ETags separados por vírgula. Na comparação forte (If-Match)
+     * os ETags fracos ({@code W/"..."}) nunca atendem; na comparação fraca (If-None-Match) o prefixo é ignorado.
+     *
+     * @param header o valor do cabeçalho
+     * @param eTag   o ETag atual
+     * @param strong true para a comparação forte
+     * @return true se algum ETag do cabeçalho corresponder ao ETag atual
+     */
+    public static boolean matches(String header, String eTag, boolean strong) {
+        if (header == null || eTag == null) {
+            return false;
+        }
+        if (header.trim().equals("*")) {
+            return true;
+        }
+        for (String candidate : header.split(",")) {
+            candidate = candidate.trim();
+            if (candidate.startsWith(WEAK_PREFIX)) {
+                if (strong) {
+                    continue;
+                }
+                candidate = candidate.substring(WEAK_PREFIX.length());
+            }
+            if (candidate.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,44 @@
+package com.br.totvs.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Classe utilitária para aplicação de JSON Merge Patch (RFC 7386)
+ */
+public class JsonMergePatch {
+
+    private JsonMergePatch() {
+    }
+
+    /**
+     * Aplica o patch fornecido sobre o documento de destino.
+     * Os membros do patch com valor null removem o membro do destino, os objetos são mesclados recursivamente
+     * e os demais valores (inclusive listas) substituem o valor do destino.
+     *
+     * @param target o documento de destino
+     * @param patch  o patch
+     * @return o documento resultante
+     */
+    public static JsonNode apply(JsonNode target, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            return patch;
+        }
+        ObjectNode result = target != null && target.isObject()
+                ? ((ObjectNode) target).deepCopy()
+                : ((ObjectNode) patch).objectNode();
+        Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (field.getValue().isNull()) {
+                result.remove(field.getKey());
+            } else {
+                result.set(field.getKey(), apply(result.get(field.getKey()), field.getValue()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,40 @@
+-- Esquema inicial, equivalente ao gerado pelo Hibernate a partir das entidades.
+-- Usado pelos perfis com banco persistente (spring.flyway.enabled=true), nos quais o Hibernate apenas valida o esquema.
+
+create sequence seq_cliente start with 1 increment by 50;
+create sequence seq_telefone_cliente start with 1 increment by 50;
+
+create table tb_cliente (
+    id bigint not null,
+    versao bigint,
+    nome varchar(500) not null,
+    nome_busca varchar(500),
+    bairro varchar(255),
+    endereco varchar(255),
+    primary key (id)
+);
+
+create table tb_telefone_cliente (
+    id bigint not null,
+    id_cliente bigint,
+    numero_chave bigint not null,
+    numero_busca varchar(20),
+    numero varchar(255) not null,
+    primary key (id),
+    constraint uk_telefone_cliente_numero_chave unique (numero_chave),
+    constraint fk_telefone_cliente foreign key (id_cliente) references tb_cliente
+);
+
+create table tb_entity_change (
+    sequencia bigint not null,
+    entidade varchar(100) not null,
+    id_entidade varchar(100) not null,
+    tipo varchar(10) not null check (tipo in ('UPSERT', 'DELETE')),
+    data_alteracao timestamp(6) with time zone not null,
+    primary key (sequencia)
+);
+
+create index idx_cliente_nome_busca on tb_cliente (nome_busca, id);
+create index idx_cliente_bairro on tb_cliente (bairro, id);
+create index idx_telefone_cliente_numero_busca on tb_telefone_cliente (numero_busca, id_cliente);
+create index idx_entity_change_entidade on tb_entity_change (entidade, sequencia);
@@ -0,0 +1,5 @@
+-- Unicidade do nome do cliente garantida pelo banco de dados, como a do telefone (uk_telefone_cliente_numero_chave):
+-- a verificação da aplicação (índice em memória e consulta de conflitos) não impede que duas transações
+-- concorrentes gravem o mesmo nome.
+
+alter table tb_cliente add constraint uk_cliente_nome unique (nome);
@@ -0,0 +1,60 @@
+package com.br.totvs;
+
+import com.br.totvs.model.Cliente;
+import com.br.totvs.model.TelefoneCliente;
+import com.br.totvs.service.ClienteService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Inicia a aplicação com o perfil file: o esquema é criado pelas migrações do Flyway e validado pelo Hibernate,
+ * então o teste falha se as entidades e as migrações divergirem.
+ */
+@SpringBootTest(properties = "app.h2.file.path=./target/test-h2/totvsdb")
+@ActiveProfiles("file")
+class FileProfileApplicationTests {
+
+	@Autowired
+	private ClienteService clienteService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeAll
+	static void removerBanco() throws IOException {
+		FileSystemUtils.deleteRecursively(Path.of("target", "test-h2"));
+	}
+
+	@Test
+	void esquemaCriadoPelasMigracoes() {
+		Cliente cliente = Cliente.builder().nome("Cliente Perfil File").build();
+		cliente.addTelefone(TelefoneCliente.builder().numero("62990909090").build());
+		Long id = clienteService.save(cliente).getId();
+
+		assertEquals(1, clienteService.findLinhasById(id).size());
+		assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_entity_change", Integer.class));
+		assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM \"flyway_schema_history\" WHERE \"version\" = '1' AND \"success\"", Integer.class));
+	}
+
+	@Test
+	void nomeUnicoGarantidoPeloBanco() {
+		jdbcTemplate.update("INSERT INTO tb_cliente (id, versao, nome) VALUES (-1, 0, 'Cliente Nome Repetido')");
+
+		assertThrows(DuplicateKeyException.class,
+				() -> jdbcTemplate.update("INSERT INTO tb_cliente (id, versao, nome) VALUES (-2, 0, 'Cliente Nome Repetido')"));
+		assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM \"flyway_schema_history\" WHERE \"version\" = '2' AND \"success\"", Integer.class));
+	}
+
+}
@@ -0,0 +1,113 @@
+package com.br.totvs;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Inicia a aplicação com o perfil virtual-threads e um pool de apenas duas conexões, e envia mais requisições
+ * simultâneas do que o pool comporta: o limite de requisições é aplicado antes das transações, então o pool
+ * fica saturado sem que nenhuma requisição falhe pelo timeout do pool.
+ * O controle de admissão é desligado, para que nenhuma requisição seja rejeitada antes de chegar ao limite.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.datasource.hikari.maximum-pool-size=2",
+		"spring.datasource.hikari.connection-timeout=250",
+		"app.bulkhead.timeout=30s",
+		"app.admission.enabled=false"
+})
+@ActiveProfiles("virtual-threads")
+class VirtualThreadsProfileApplicationTests {
+
+	private static final int CLIENTES = 24;
+	private static final int REQUISICOES_POR_CLIENTE = 20;
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void poolSaturadoSemTimeoutDeConexao() throws Exception {
+		HikariPoolMXBean pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+		HttpClient client = HttpClient.newHttpClient();
+		AtomicInteger sequencia = new AtomicInteger();
+		ConcurrentLinkedQueue<String> falhas = new ConcurrentLinkedQueue<>();
+		AtomicBoolean emExecucao = new AtomicBoolean(true);
+		AtomicInteger maximoAtivas = new AtomicInteger();
+
+		Thread monitor = new Thread(() -> {
+			while (emExecucao.get()) {
+				maximoAtivas.accumulateAndGet(pool.getActiveConnections(), Math::max);
+				Thread.onSpinWait();
+			}
+		});
+		monitor.start();
+		ExecutorService executor = Executors.newFixedThreadPool(CLIENTES);
+		try {
+			List<Future<?>> clientes = new ArrayList<>();
+			for (int c = 0; c < CLIENTES; c++) {
+				clientes.add(executor.submit(() -> {
+					for (int r = 0; r < REQUISICOES_POR_CLIENTE; r++) {
+						HttpResponse<String> response = client.send(requisicao(r, sequencia.incrementAndGet()), HttpResponse.BodyHandlers.ofString());
+						if (response.statusCode() >= 300) {
+							falhas.add(response.statusCode() + " " + response.body());
+						}
+					}
+					return null;
+				}));
+			}
+			for (Future<?> cliente : clientes) {
+				cliente.get();
+			}
+		} finally {
+			emExecucao.set(false);
+			monitor.join();
+			executor.shutdown();
+		}
+
+		assertTrue(falhas.isEmpty(), () -> falhas.size() + " requisições falharam, ex.: " + falhas.peek());
+		assertEquals(2, maximoAtivas.get());
+		assertEquals(0, meterRegistry.get("hikaricp.connections.timeout").counter().count());
+	}
+
+	private HttpRequest requisicao(int r, int n) {
+		String url = "http://localhost:" + port + "/api/v1/clientes";
+		return switch (r % 3) {
+			case 0 -> HttpRequest.newBuilder(URI.create(url))
+					.header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofString("{\"nome\":\"Cliente Saturacao " + n + "\",\"bairro\":\"Centro\","
+							+ "\"telefoneClienteList\":[{\"numero\":\"" + String.format("6193%07d", n) + "\"}]}"))
+					.build();
+			case 1 -> HttpRequest.newBuilder(URI.create(url + "?limit=20")).GET().build();
+			default -> HttpRequest.newBuilder(URI.create(url + "/search?nome=Cliente%20Saturacao&limit=20")).GET().build();
+		};
+	}
+
+}
@@ -3,6 +3,7 @@ package com.br.totvs.builders;
 import com.br.totvs.repository.ClienteRepository;
 import com.br.totvs.service.ClienteService;
 import com.br.totvs.service.TelefoneClienteService;
+import com.br.totvs.service.index.ClienteUniquenessIndex;
 import com.br.totvs.service.message.MessageService;
 
 import static org.mockito.Mockito.mock;
@@ -10,7 +11,7 @@ import static org.mockito.Mockito.mock;
 public class BuilderClienteService {
 
     public ClienteService get(){
-        ClienteService clienteService = new ClienteService(mock(ClienteRepository.class),mock(TelefoneClienteService.class),mock(MessageService.class));
+        ClienteService clienteService = new ClienteService(mock(ClienteRepository.class),mock(TelefoneClienteService.class),mock(MessageService.class),mock(ClienteUniquenessIndex.class));
         return clienteService;
     }
 }
@@ -0,0 +1,126 @@
+package com.br.totvs.controller;
+
+import com.br.totvs.model.Cliente;
+import com.br.totvs.model.TelefoneCliente;
+import com.br.totvs.service.ClienteService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+public class ClienteControllerTest {
+
+    private static final String URL = "/api/v1/clientes";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void testUpdateComIdDoCorpoDiferenteDoCaminhoRetorna400() throws Exception {
+        Long id = criar("Cliente Controller Put A", "62966660001");
+        Long outro = criar("Cliente Controller Put B", "62966660002");
+
+        mockMvc.perform(put(URL + "/{id}", id).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\": " + outro + ", \"nome\": \"Cliente Controller Put B alterado\"}"))
+                .andExpect(status().isBadRequest());
+
+        assertEquals("Cliente Controller Put A", clienteService.findById(id).orElseThrow().getNome());
+        assertEquals("Cliente Controller Put B", clienteService.findById(outro).orElseThrow().getNome());
+    }
+
+    @Test
+    public void testUpdateSemIdNoCorpoUsaOIdDoCaminho() throws Exception {
+        Long id = criar("Cliente Controller Put C", "62966660003");
+
+        mockMvc.perform(put(URL + "/{id}", id).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\": \"Cliente Controller Put C alterado\", \"telefoneClienteList\": [{\"numero\": \"62966660003\"}]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id))
+                .andExpect(jsonPath("$.nome").value("Cliente Controller Put C alterado"));
+    }
+
+    @Test
+    public void testReadByIdPassaPeloCacheCarregadoPelaProjecao() throws Exception {
+        Long id = criar("Cliente Controller Get A", "62966660004");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // com a configuração padrão (app.cache.cliente.enabled=true), a falta lê as linhas de cliente e telefone
+        // em uma única consulta, sem carregar as entidades
+        mockMvc.perform(get(URL + "/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$.telefoneClienteList[0].numero").value("62966660004"));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        // o acerto não consulta o banco
+        statistics.clear();
+        mockMvc.perform(get(URL + "/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("Cliente Controller Get A"));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testPatchSemIfMatchNaoDesfazAlteracaoConcorrente() throws Exception {
+        Long id = criar("Cliente Controller Patch A", "62966660005");
+        mockMvc.perform(get(URL + "/{id}", id)).andExpect(status().isOk());
+
+        // outra transação grava o endereço depois da leitura em cache sobre a qual o patch será aplicado
+        jdbcTemplate.update("UPDATE tb_cliente SET endereco = ?, versao = versao + 1 WHERE id = ?", "Rua Concorrente", id);
+
+        mockMvc.perform(patch(URL + "/{id}", id).contentType("application/merge-patch+json")
+                        .content("{\"bairro\": \"Bairro Patch\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        Cliente cliente = clienteService.findById(id).orElseThrow();
+        assertEquals("Rua Concorrente", cliente.getEndereco());
+        assertNull(cliente.getBairro());
+    }
+
+    @Test
+    public void testChangesTrazORegistroDasInclusoes() throws Exception {
+        String token = clienteService.currentChangeToken();
+        Long id = criar("Cliente Controller Changes A", "62966660006");
+
+        mockMvc.perform(get(URL + "/changes").param("since", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].type").value("UPSERT"))
+                .andExpect(jsonPath("$.changes[0].id").value(id))
+                .andExpect(jsonPath("$.changes[0].data.nome").value("Cliente Controller Changes A"));
+    }
+
+    private Long criar(String nome, String numero) {
+        Cliente cliente = Cliente.builder().nome(nome).build();
+        cliente.addTelefone(TelefoneCliente.builder().numero(numero).build());
+        return clienteService.save(cliente).getId();
+    }
+}
@@ -0,0 +1,79 @@
+package com.br.totvs.controller.handler;
+
+import com.br.totvs.model.Cliente;
+import com.br.totvs.model.TelefoneCliente;
+import com.br.totvs.service.ClienteService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ControllerExceptionHandlerTest {
+
+    private static final String URL = "/api/v1/clientes";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Test
+    public void testCamposInvalidosRetornamUmErroPorCampo() throws Exception {
+        mockMvc.perform(post(URL).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\": \"Curto\", \"telefoneClienteList\": [{\"numero\": \"123\"}, {}]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Error"))
+                .andExpect(jsonPath("$.message").value("Um ou mais campos são inválidos."))
+                .andExpect(jsonPath("$.errors.length()").value(3))
+                .andExpect(jsonPath("$.errors[0].field").value("nome"))
+                .andExpect(jsonPath("$.errors[0].message").value("O nome do cliente deve ter mais de 10 caracteres"))
+                .andExpect(jsonPath("$.errors[1].field").value("telefoneClienteList[0].numero"))
+                .andExpect(jsonPath("$.errors[1].message").value("O formato do telefone é inválido."))
+                .andExpect(jsonPath("$.errors[2].field").value("telefoneClienteList[1].numero"))
+                .andExpect(jsonPath("$.errors[2].message").value("O campo telefone não pode ser nulo."));
+    }
+
+    @Test
+    public void testPatchInvalidoRetornaOMesmoFormato() throws Exception {
+        Cliente cliente = Cliente.builder().nome("Cliente Handler Patch").build();
+        cliente.addTelefone(TelefoneCliente.builder().numero("62977770001").build());
+        Long id = clienteService.save(cliente).getId();
+
+        mockMvc.perform(patch(URL + "/{id}", id).contentType("application/merge-patch+json")
+                        .content("{\"telefoneClienteList\": [{\"numero\": \"123\"}]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Error"))
+                .andExpect(jsonPath("$.errors.length()").value(1))
+                .andExpect(jsonPath("$.errors[0].field").value("telefoneClienteList[0].numero"))
+                .andExpect(jsonPath("$.errors[0].message").value("O formato do telefone é inválido."));
+    }
+
+    @Test
+    public void testItemInvalidoDoLoteRetornaUmErroPorCampo() throws Exception {
+        mockMvc.perform(post(URL + "/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"nome\": \"Cliente Handler Lote\", \"telefoneClienteList\": [{\"numero\": \"62977770002\"}]},"
+                                + " {\"nome\": \"Curto\"}]"))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.errors[0].index").value(1))
+                .andExpect(jsonPath("$.errors[0].errors[0].field").value("nome"))
+                .andExpect(jsonPath("$.errors[0].errors[0].message").value("O nome do cliente deve ter mais de 10 caracteres"));
+    }
+
+    @Test
+    public void testDemaisErrosNaoTrazemErrosDeCampo() throws Exception {
+        mockMvc.perform(patch(URL + "/{id}", -1l).contentType("application/merge-patch+json").content("{}"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").exists())
+                .andExpect(jsonPath("$.errors").doesNotExist());
+    }
+}
@@ -0,0 +1,233 @@
+package com.br.totvs.controller.idempotency;
+
+import com.br.totvs.exception.CustomException;
+import com.br.totvs.exception.InvalidFieldException;
+import com.br.totvs.service.message.MessageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class IdempotencyStoreTest {
+
+    private static final String SCOPE = "ClienteController.create";
+
+    private final MessageService messageService = mock(MessageService.class);
+
+    private final IdempotencyStore store = new IdempotencyStore(100, Duration.ofMinutes(1), Duration.ofSeconds(5),
+            messageService, new SimpleMeterRegistry());
+
+    @Test
+    public void testRepeticaoRetornaARespostaGuardadaSemExecutarNovamente() {
+        AtomicInteger execucoes = new AtomicInteger();
+
+        ResponseEntity<String> primeira = store.execute(SCOPE, "chave", "corpo",
+                () -> ResponseEntity.status(HttpStatus.CREATED).body("criado " + execucoes.incrementAndGet()));
+        ResponseEntity<String> repeticao = store.execute(SCOPE, "chave", "corpo",
+                () -> ResponseEntity.status(HttpStatus.CREATED).body("criado " + execucoes.incrementAndGet()));
+
+        assertEquals(1, execucoes.get());
+        assertEquals(HttpStatus.CREATED, repeticao.getStatusCode());
+        assertEquals(primeira.getBody(), repeticao.getBody());
+        assertNull(primeira.getHeaders().getFirst(IdempotencyStore.IDEMPOTENT_REPLAYED_HEADER));
+        assertEquals("true", repeticao.getHeaders().getFirst(IdempotencyStore.IDEMPOTENT_REPLAYED_HEADER));
+    }
+
+    @Test
+    public void testSemChaveSempreExecuta() {
+        AtomicInteger execucoes = new AtomicInteger();
+
+        store.execute(SCOPE, null, "corpo", () -> ResponseEntity.ok(execucoes.incrementAndGet()));
+        store.execute(SCOPE, null, "corpo", () -> ResponseEntity.ok(execucoes.incrementAndGet()));
+
+        assertEquals(2, execucoes.get());
+    }
+
+    @Test
+    public void testChaveReusadaEmRequisicaoDiferenteRetorna422() {
+        when(messageService.getMessage("error.idempotencyKeyReused")).thenReturn("Chave reusada");
+        store.execute(SCOPE, "chave", "corpo", () -> ResponseEntity.ok("ok"));
+
+        InvalidFieldException thrown = assertThrows(InvalidFieldException.class,
+                () -> store.execute(SCOPE, "chave", "outro corpo", () -> ResponseEntity.ok("ok")));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, thrown.getErrorCode());
+        assertEquals("Chave reusada", thrown.getMessage());
+        // a mesma chave em outra operação é independente
+        assertEquals("ok", store.execute("ClienteController.update", "chave", "outro corpo", () -> ResponseEntity.ok("ok")).getBody());
+    }
+
+    @Test
+    public void testErroDoClienteEGuardadoEErroDoServidorLiberaAChave() {
+        AtomicInteger execucoes = new AtomicInteger();
+        CustomException conflito = new CustomException(HttpStatus.CONFLICT, "Nome duplicado");
+
+        assertSame(conflito, assertThrows(CustomException.class, () -> store.execute(SCOPE, "conflito", "corpo", () -> {
+            execucoes.incrementAndGet();
+            throw conflito;
+        })));
+        assertSame(conflito, assertThrows(CustomException.class,
+                () -> store.execute(SCOPE, "conflito", "corpo", () -> ResponseEntity.ok(execucoes.incrementAndGet()))));
+        assertEquals(1, execucoes.get());
+
+        assertThrows(CustomException.class, () -> store.execute(SCOPE, "indisponivel", "corpo", () -> {
+            throw new CustomException(HttpStatus.SERVICE_UNAVAILABLE, "Serviço sobrecarregado");
+        }));
+        assertEquals("ok", store.execute(SCOPE, "indisponivel", "corpo", () -> ResponseEntity.ok("ok")).getBody());
+    }
+
+    @Test
+    public void testErroNaExecucaoConcluiARepeticaoEmEsperaELiberaAChave() throws Exception {
+        Error falha = new Error("Falha na execução");
+        CountDownLatch emExecucao = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ResponseEntity<String>> primeira = executor.submit(() -> store.execute(SCOPE, "chave", "corpo", () -> {
+                emExecucao.countDown();
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw falha;
+            }));
+            emExecucao.await();
+            Future<ResponseEntity<String>> repeticao = executor.submit(() -> store.execute(SCOPE, "chave", "corpo",
+                    () -> ResponseEntity.ok("repetição")));
+            Thread.sleep(100);
+            liberar.countDown();
+
+            assertSame(falha, assertThrows(ExecutionException.class, primeira::get).getCause());
+            assertSame(falha, assertThrows(ExecutionException.class, repeticao::get).getCause());
+        } finally {
+            liberar.countDown();
+            executor.shutdown();
+        }
+        assertEquals("ok", store.execute(SCOPE, "chave", "corpo", () -> ResponseEntity.ok("ok")).getBody());
+    }
+
+    @Test
+    public void testExcecaoVerificadaNaExecucaoChegaARepeticaoComo500() throws Exception {
+        IOException falha = new IOException("Falha de E/S");
+        CountDownLatch emExecucao = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            executor.submit(() -> store.execute(SCOPE, "chave", "corpo", () -> {
+                emExecucao.countDown();
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return sneakyThrow(falha);
+            }));
+            emExecucao.await();
+            Future<ResponseEntity<String>> repeticao = executor.submit(() -> store.execute(SCOPE, "chave", "corpo",
+                    () -> ResponseEntity.ok("repetição")));
+            Thread.sleep(100);
+            liberar.countDown();
+
+            CustomException thrown = assertInstanceOf(CustomException.class, assertThrows(ExecutionException.class, repeticao::get).getCause());
+            assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, thrown.getErrorCode());
+            assertSame(falha, thrown.getCause());
+        } finally {
+            liberar.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testChaveInvalidaRetorna400() {
+        InvalidFieldException thrown = assertThrows(InvalidFieldException.class,
+                () -> store.execute(SCOPE, "x".repeat(IdempotencyStore.MAX_KEY_LENGTH + 1), "corpo", () -> ResponseEntity.ok("ok")));
+
+        assertEquals(HttpStatus.BAD_REQUEST, thrown.getErrorCode());
+    }
+
+    @Test
+    public void testRepeticaoConcorrenteAguardaAPrimeiraExecucao() throws Exception {
+        AtomicInteger execucoes = new AtomicInteger();
+        CountDownLatch emExecucao = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<ResponseEntity<Integer>> primeira = executor.submit(() -> store.execute(SCOPE, "chave", "corpo", () -> {
+                emExecucao.countDown();
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return ResponseEntity.ok(execucoes.incrementAndGet());
+            }));
+            emExecucao.await();
+            Future<ResponseEntity<Integer>> repeticao = executor.submit(() -> store.execute(SCOPE, "chave", "corpo",
+                    () -> ResponseEntity.ok(execucoes.incrementAndGet())));
+
+            Thread.sleep(100);
+            assertFalse(repeticao.isDone());
+            liberar.countDown();
+
+            assertEquals(1, primeira.get().getBody());
+            assertEquals(1, repeticao.get().getBody());
+            assertEquals(1, execucoes.get());
+        } finally {
+            liberar.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRepeticaoConcorrenteSemRespostaNoTempoLimiteRetorna409() throws Exception {
+        when(messageService.getMessage("error.idempotencyInProgress")).thenReturn("Em processamento");
+        IdempotencyStore storeComTimeoutCurto = new IdempotencyStore(100, Duration.ofMinutes(1), Duration.ofMillis(50),
+                messageService, new SimpleMeterRegistry());
+        CountDownLatch emExecucao = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> storeComTimeoutCurto.execute(SCOPE, "chave", "corpo", () -> {
+                emExecucao.countDown();
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return ResponseEntity.ok("ok");
+            }));
+            emExecucao.await();
+
+            InvalidFieldException thrown = assertThrows(InvalidFieldException.class,
+                    () -> storeComTimeoutCurto.execute(SCOPE, "chave", "corpo", () -> ResponseEntity.ok("ok")));
+
+            assertEquals(HttpStatus.CONFLICT, thrown.getErrorCode());
+            assertEquals("Em processamento", thrown.getMessage());
+        } finally {
+            liberar.countDown();
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Lança a exceção verificada fornecida sem declará-la, como um {@code Supplier} que falha fora do contrato.
+     */
+    @SuppressWarnings("unchecked")
+    private static <R, E extends Throwable> R sneakyThrow(Throwable e) throws E {
+        throw (E) e;
+    }
+}
@@ -0,0 +1,452 @@
+package com.br.totvs.repository;
+
+import com.br.totvs.dto.ClienteDTO;
+import com.br.totvs.exception.CustomException;
+import com.br.totvs.exception.InvalidFieldException;
+import com.br.totvs.mapper.ClienteMapper;
+import com.br.totvs.model.Cliente;
+import com.br.totvs.model.EntityChange;
+import com.br.totvs.model.TelefoneCliente;
+import com.br.totvs.repository.projection.ClienteConflito;
+import com.br.totvs.repository.projection.ClienteTelefoneLinha;
+import com.br.totvs.service.ClienteService;
+import com.br.totvs.service.batch.BatchError;
+import com.br.totvs.service.batch.BatchResult;
+import com.br.totvs.service.batch.BulkDeleteResult;
+import com.br.totvs.service.page.KeysetPage;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureTestEntityManager;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestEntityManager
+@Transactional
+public class ClienteRepositoryTest {
+
+    private static final int QUANTIDADE_CLIENTES = 20;
+
+    @Autowired
+    private ClienteRepository repository;
+
+    @Autowired
+    private ClienteMapper mapper;
+
+    @Autowired
+    private ClienteService clienteService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        for (int i = 0; i < QUANTIDADE_CLIENTES; i++) {
+            Cliente cliente = Cliente.builder().nome("Cliente de Teste " + i).build();
+            for (int j = 0; j < 2; j++) {
+                TelefoneCliente telefone = TelefoneCliente.builder().numero("119123456" + i + j).build();
+                telefone.setNumeroChave(Long.valueOf(telefone.getNumero()));
+                telefone.setParent(cliente);
+                cliente.addTelefone(telefone);
+            }
+            entityManager.persist(cliente);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testFindAllCarregaTelefonesEmUmaConsulta() {
+        List<ClienteDTO> dtos = mapper.toDtos(repository.findAll());
+
+        assertEquals(QUANTIDADE_CLIENTES, dtos.size());
+        dtos.forEach(dto -> assertEquals(2, dto.telefoneClienteList().size()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testFindPageCarregaTelefonesEmLote() {
+        List<ClienteDTO> dtos = mapper.toDtos(repository.findAllByOrderByIdAsc(Limit.of(QUANTIDADE_CLIENTES / 2)));
+
+        assertEquals(QUANTIDADE_CLIENTES / 2, dtos.size());
+        dtos.forEach(dto -> assertEquals(2, dto.telefoneClienteList().size()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testFindByIdCarregaTelefonesEmUmaConsulta() {
+        Long id = repository.findAllByOrderByIdAsc(Limit.of(1)).get(0).getId();
+        entityManager.clear();
+        statistics.clear();
+
+        ClienteDTO dto = mapper.toDto(repository.findById(id).orElseThrow());
+
+        assertEquals(2, dto.telefoneClienteList().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testFindAllLinhasMontaOsMesmosDtosSemCarregarEntidades() {
+        Cliente semTelefones = Cliente.builder().nome("Cliente sem Telefones").build();
+        entityManager.persist(semTelefones);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<ClienteDTO> dtos = mapper.linhasToDtos(repository.findAllLinhas());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(QUANTIDADE_CLIENTES + 1, dtos.size());
+        assertEquals(mapper.toDtos(repository.findAll()), dtos);
+        assertTrue(dtos.get(dtos.size() - 1).telefoneClienteList().isEmpty());
+    }
+
+    @Test
+    public void testFindLinhasByIdEmUmaConsultaSemCarregarEntidades() {
+        Cliente cliente = repository.findAllByOrderByIdAsc(Limit.of(1)).get(0);
+        entityManager.clear();
+        statistics.clear();
+
+        List<ClienteTelefoneLinha> linhas = repository.findLinhasById(cliente.getId());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(2, linhas.size());
+        assertEquals(cliente.getVersao(), linhas.get(0).versao());
+        assertEquals(mapper.toDto(repository.findById(cliente.getId()).orElseThrow()), mapper.linhasToDtos(linhas).get(0));
+        assertTrue(repository.findLinhasById(-1l).isEmpty());
+    }
+
+    @Test
+    public void testExportAllPercorreCursorELimpaContexto() {
+        List<ClienteDTO> dtos = new ArrayList<>();
+        List<Cliente> exportados = new ArrayList<>();
+
+        clienteService.exportAll(cliente -> {
+            exportados.add(cliente);
+            dtos.add(mapper.toDto(cliente));
+        });
+
+        assertEquals(QUANTIDADE_CLIENTES, dtos.size());
+        dtos.forEach(dto -> assertEquals(2, dto.telefoneClienteList().size()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+        exportados.forEach(cliente -> assertFalse(entityManager.getEntityManager().contains(cliente)));
+    }
+
+    @Test
+    public void testPatchAdicionaTelefoneSemRegravarOsExistentes() {
+        Cliente atual = repository.findAllByOrderByIdAsc(Limit.of(1)).get(0);
+        List<Long> idsAtuais = atual.getTelefoneClienteList().stream().map(TelefoneCliente::getId).toList();
+        Cliente alteracoes = Cliente.builder().id(atual.getId()).nome(atual.getNome()).build();
+        atual.getTelefoneClienteList().forEach(telefone ->
+                alteracoes.addTelefone(TelefoneCliente.builder().numero(telefone.getNumero()).build()));
+        alteracoes.addTelefone(TelefoneCliente.builder().numero("11987654321").build());
+        entityManager.clear();
+        statistics.clear();
+
+        Cliente atualizado = clienteService.patch(atual.getId(), alteracoes);
+
+        assertEquals(3, atualizado.getTelefoneClienteList().size());
+        assertTrue(atualizado.getTelefoneClienteList().stream().map(TelefoneCliente::getId).toList().containsAll(idsAtuais));
+        assertEquals(1, statistics.getEntityStatistics(TelefoneCliente.class.getName()).getInsertCount());
+        assertEquals(1, statistics.getEntityStatistics(EntityChange.class.getName()).getInsertCount());
+        assertEquals(1, statistics.getEntityUpdateCount(), "somente a versão do cliente");
+        assertEquals(0, statistics.getEntityDeleteCount());
+    }
+
+    @Test
+    public void testPatchAlteraSomenteOsCamposDiferentes() {
+        Cliente atual = repository.findAllByOrderByIdAsc(Limit.of(1)).get(0);
+        TelefoneCliente mantido = atual.getTelefoneClienteList().get(0);
+        Cliente alteracoes = Cliente.builder().id(atual.getId()).nome(atual.getNome()).bairro("Centro").build();
+        alteracoes.addTelefone(TelefoneCliente.builder().numero(mantido.getNumero()).build());
+        entityManager.clear();
+        statistics.clear();
+
+        Cliente atualizado = clienteService.patch(atual.getId(), alteracoes);
+
+        assertEquals("Centro", atualizado.getBairro());
+        assertEquals(1, atualizado.getTelefoneClienteList().size());
+        assertEquals(mantido.getId(), atualizado.getTelefoneClienteList().get(0).getId());
+        assertEquals(1, statistics.getEntityInsertCount(), "somente a alteração no log");
+        assertEquals(1, statistics.getEntityStatistics(EntityChange.class.getName()).getInsertCount());
+        assertEquals(1, statistics.getEntityUpdateCount());
+        assertEquals(1, statistics.getEntityDeleteCount());
+    }
+
+    @Test
+    public void testPatchNaoCopiaONomeDeBusca() {
+        Cliente atual = repository.findAllByOrderByIdAsc(Limit.of(1)).get(0);
+        Cliente alteracoes = Cliente.builder().id(atual.getId()).nome(atual.getNome()).endereco(atual.getEndereco()).bairro(atual.getBairro()).build();
+        atual.getTelefoneClienteList().forEach(telefone ->
+                alteracoes.addTelefone(TelefoneCliente.builder().numero(telefone.getNumero()).build()));
+        entityManager.clear();
+        statistics.clear();
+
+        // o nome de busca não vem no patch, mas também não é tratado como alteração
+        clienteService.patch(atual.getId(), alteracoes);
+
+        assertEquals(0, statistics.getEntityUpdateCount());
+        assertEquals(0, statistics.getEntityInsertCount());
+
+        alteracoes.setNome("Cliente Com Nome Alterado Á");
+        entityManager.clear();
+
+        Cliente atualizado = clienteService.patch(atual.getId(), alteracoes);
+        entityManager.flush();
+
+        assertEquals("cliente com nome alterado a", atualizado.getNomeBusca());
+    }
+
+    @Test
+    public void testFindVersaoByIdNaoCarregaAEntidade() {
+        Cliente atual = repository.findAllByOrderByIdAsc(Limit.of(1)).get(0);
+        entityManager.clear();
+        statistics.clear();
+
+        assertEquals(atual.getVersao(), repository.findVersaoById(atual.getId()).orElseThrow());
+        assertTrue(repository.findVersaoById(-1l).isEmpty());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    public void testPatchIncrementaVersaoEConfereVersaoEsperada() {
+        Cliente atual = repository.findAllByOrderByIdAsc(Limit.of(1)).get(0);
+        Long versao = atual.getVersao();
+        Cliente alteracoes = Cliente.builder().id(atual.getId()).nome(atual.getNome()).bairro("Centro").build();
+        atual.getTelefoneClienteList().forEach(telefone ->
+                alteracoes.addTelefone(TelefoneCliente.builder().numero(telefone.getNumero()).build()));
+        entityManager.clear();
+
+        Cliente atualizado = clienteService.patch(atual.getId(), alteracoes, versao);
+        entityManager.clear();
+
+        assertEquals(versao + 1, atualizado.getVersao());
+        CustomException thrown = assertThrows(CustomException.class, () -> clienteService.patch(atual.getId(), alteracoes, versao));
+        assertEquals(HttpStatus.PRECONDITION_FAILED, thrown.getErrorCode());
+    }
+
+    @Test
+    public void testUpdateComVersaoDesatualizadaFalha() {
+        Cliente atual = repository.findAllByOrderByIdAsc(Limit.of(1)).get(0);
+        Long versao = atual.getVersao();
+        atual.setBairro("Centro");
+        entityManager.flush();
+        entityManager.clear();
+        Cliente alteracoes = Cliente.builder().id(atual.getId()).nome(atual.getNome()).build();
+
+        CustomException thrown = assertThrows(CustomException.class, () -> clienteService.update(alteracoes, versao));
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, thrown.getErrorCode());
+    }
+
+    @Test
+    public void testFindConflitosEmUmaConsulta() {
+        List<ClienteConflito> conflitos = repository.findConflitos("Cliente de Teste 1", Arrays.asList(11912345620l, 11912345631l, 11999999999l));
+
+        assertEquals(3, conflitos.size());
+        assertTrue(conflitos.stream().anyMatch(conflito -> "Cliente de Teste 1".equals(conflito.nome())));
+        assertTrue(conflitos.stream().anyMatch(conflito -> Long.valueOf(11912345620l).equals(conflito.numeroChave())));
+        assertTrue(conflitos.stream().anyMatch(conflito -> Long.valueOf(11912345631l).equals(conflito.numeroChave())));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testFindConflitosSemTelefones() {
+        List<ClienteConflito> conflitos = repository.findConflitos("Cliente de Teste 2", List.of());
+
+        assertEquals(1, conflitos.size());
+        assertEquals("Cliente de Teste 2", conflitos.get(0).nome());
+    }
+
+    @Test
+    public void testSearchPorPrefixoDoNomeSemAcentos() {
+        Cliente cliente = Cliente.builder().nome("José Álvares da Silva").bairro("Centro").build();
+        entityManager.persist(cliente);
+        entityManager.flush();
+
+        List<Cliente> encontrados = clienteService.search("jose alva", null, null, null, 10).content();
+
+        assertEquals(1, encontrados.size());
+        assertEquals(cliente.getId(), encontrados.get(0).getId());
+        assertEquals(1, clienteService.search("JOSÉ", "Centro", null, null, 10).content().size());
+        assertEquals(0, clienteService.search("jose", "Setor Bueno", null, null, 10).content().size());
+    }
+
+    @Test
+    public void testSearchPorPrefixoDoTelefoneRetornaCadaClienteUmaVez() {
+        List<Cliente> encontrados = clienteService.search(null, null, "(11) 91234-56190", null, 10).content();
+
+        assertEquals(1, encontrados.size());
+        assertEquals("Cliente de Teste 19", encontrados.get(0).getNome());
+        assertEquals(QUANTIDADE_CLIENTES, clienteService.search(null, null, "119123456", null, 100).content().size());
+        assertEquals(0, clienteService.search(null, null, "-", null, 10).content().size());
+    }
+
+    @Test
+    public void testSearchPaginaPorChave() {
+        KeysetPage<Cliente> primeira = clienteService.search("cliente de teste", null, null, null, QUANTIDADE_CLIENTES / 2);
+        KeysetPage<Cliente> segunda = clienteService.search("cliente de teste", null, null, primeira.nextCursor(), QUANTIDADE_CLIENTES / 2);
+
+        assertEquals(QUANTIDADE_CLIENTES / 2, primeira.content().size());
+        assertEquals(QUANTIDADE_CLIENTES / 2, segunda.content().size());
+        assertTrue(primeira.content().get(primeira.content().size() - 1).getId() < segunda.content().get(0).getId());
+        assertNull(segunda.nextCursor());
+    }
+
+    @Test
+    public void testSearchUsaOsIndices() {
+        assertTrue(explain("SELECT id FROM tb_cliente WHERE nome_busca LIKE 'cliente%' ORDER BY id").contains("IDX_CLIENTE_NOME_BUSCA"));
+        assertTrue(explain("SELECT id FROM tb_cliente WHERE bairro = 'Centro' ORDER BY id").contains("IDX_CLIENTE_BAIRRO"));
+        assertTrue(explain("SELECT id FROM tb_cliente WHERE id IN (SELECT id_cliente FROM tb_telefone_cliente WHERE numero_busca LIKE '1191%')")
+                .contains("IDX_TELEFONE_CLIENTE_NUMERO_BUSCA"));
+    }
+
+    @Test
+    public void testDeleteSemCarregarOCliente() {
+        Long id = repository.findAllByOrderByIdAsc(Limit.of(1)).get(0).getId();
+        clienteService.currentChangeToken();
+        entityManager.clear();
+        statistics.clear();
+
+        clienteService.delete(id);
+
+        // ids dos telefones, exclusão dos telefones, exclusão do cliente e insert do log; antes eram 6 comandos:
+        // existsById, carga do cliente, carga dos telefones, exclusão dos telefones, exclusão do cliente e insert do log
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertFalse(repository.existsById(id));
+        assertEquals((long) (QUANTIDADE_CLIENTES - 1) * 2, entityManager.getEntityManager().createQuery("SELECT COUNT(t) FROM TelefoneCliente t").getSingleResult());
+    }
+
+    @Test
+    public void testDeleteNaoEncontradoPelaQuantidadeDeLinhas() {
+        statistics.clear();
+
+        CustomException thrown = assertThrows(CustomException.class, () -> clienteService.delete(-1l));
+
+        assertEquals(HttpStatus.NOT_FOUND, thrown.getErrorCode());
+        assertEquals(QUANTIDADE_CLIENTES, repository.count());
+    }
+
+    @Test
+    public void testUpdateCarregaOClienteUmaUnicaVez() {
+        Cliente atual = repository.findAllByOrderByIdAsc(Limit.of(1)).get(0);
+        Cliente alteracoes = Cliente.builder().id(atual.getId()).nome(atual.getNome()).bairro("Centro").build();
+        atual.getTelefoneClienteList().forEach(telefone ->
+                alteracoes.addTelefone(TelefoneCliente.builder().id(telefone.getId()).numero(telefone.getNumero()).build()));
+        clienteService.currentChangeToken();
+        entityManager.clear();
+        statistics.clear();
+
+        clienteService.update(alteracoes);
+
+        // carga do cliente com os telefones (reaproveitada pelo merge), insert do log e update do cliente;
+        // antes a versão era consultada separadamente e o merge carregava o cliente novamente
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityStatistics(Cliente.class.getName()).getLoadCount());
+    }
+
+    @Test
+    public void testDeleteAllPorIdsUsaUmComandoPorTabela() {
+        List<Long> ids = new ArrayList<>(repository.findAllByOrderByIdAsc(Limit.of(QUANTIDADE_CLIENTES / 2)).stream().map(Cliente::getId).toList());
+        ids.add(-1l);
+        clienteService.currentChangeToken();
+        entityManager.clear();
+        statistics.clear();
+
+        BulkDeleteResult<Long> result = clienteService.deleteAll(ids);
+
+        assertEquals(QUANTIDADE_CLIENTES / 2, result.deleted());
+        assertEquals(List.of(-1l), result.missing());
+        // ids existentes, ids dos telefones, exclusão dos telefones, exclusão dos clientes e inserts do log em lote
+        assertEquals(5, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(QUANTIDADE_CLIENTES / 2, repository.count());
+        assertEquals((long) QUANTIDADE_CLIENTES, entityManager.getEntityManager().createQuery("SELECT COUNT(t) FROM TelefoneCliente t").getSingleResult());
+        assertEquals((long) QUANTIDADE_CLIENTES / 2, entityManager.getEntityManager()
+                .createQuery("SELECT COUNT(e) FROM EntityChange e WHERE e.tipo = :tipo").setParameter("tipo", EntityChange.Type.DELETE).getSingleResult());
+    }
+
+    @Test
+    public void testDeleteAllPorFiltro() {
+        BulkDeleteResult<Long> result = clienteService.deleteAll("cliente de teste 1", null, null);
+
+        // "Cliente de Teste 1" e "Cliente de Teste 10" a "Cliente de Teste 19"
+        assertEquals(11, result.deleted());
+        assertTrue(result.missing().isEmpty());
+        assertTrue(clienteService.search("cliente de teste 1", null, null, null, 10).content().isEmpty());
+        assertEquals(QUANTIDADE_CLIENTES - 11, repository.count());
+    }
+
+    @Test
+    public void testDeleteAllSemFiltroFalha() {
+        InvalidFieldException thrown = assertThrows(InvalidFieldException.class, () -> clienteService.deleteAll(" ", null, ""));
+
+        assertEquals(HttpStatus.BAD_REQUEST, thrown.getErrorCode());
+        assertEquals(QUANTIDADE_CLIENTES, repository.count());
+    }
+
+    @Test
+    public void testSaveAllRejeitaNomeETelefoneRepetidosNoMesmoLote() {
+        List<Cliente> lote = List.of(
+                novoCliente("Cliente do Lote A", "62911110001"),
+                novoCliente("Cliente do Lote A", "62911110002"),
+                novoCliente("Cliente do Lote B", "(62) 91111-0001"),
+                novoCliente("Cliente do Lote C", "62911110003"));
+
+        BatchResult<Cliente> result = clienteService.saveAll(lote);
+        entityManager.clear();
+
+        assertEquals(List.of("Cliente do Lote A", "Cliente do Lote C"), result.saved().stream().map(Cliente::getNome).toList());
+        assertEquals(List.of(1, 2), result.errors().stream().map(BatchError::index).toList());
+        result.errors().forEach(error -> assertEquals(HttpStatus.CONFLICT, error.status()));
+        assertTrue(result.errors().get(1).message().contains("62911110001"));
+        assertEquals(QUANTIDADE_CLIENTES + 2, repository.count());
+        assertEquals(List.of("62911110001"), repository.findById(result.saved().get(0).getId()).orElseThrow()
+                .getTelefoneClienteList().stream().map(TelefoneCliente::getNumero).toList());
+    }
+
+    @Test
+    public void testNomeUnicoGarantidoPeloBanco() {
+        entityManager.persist(Cliente.builder().nome("Cliente de Teste 0").build());
+
+        assertThrows(ConstraintViolationException.class, () -> entityManager.flush());
+    }
+
+    private static Cliente novoCliente(String nome, String numero) {
+        Cliente cliente = Cliente.builder().nome(nome).build();
+        cliente.addTelefone(TelefoneCliente.builder().numero(numero).build());
+        return cliente;
+    }
+
+    private String explain(String sql) {
+        return entityManager.getEntityManager().createNativeQuery("EXPLAIN " + sql).getSingleResult().toString().toUpperCase();
+    }
+}
@@ -0,0 +1,577 @@
+package com.br.totvs.service;
+
+import com.br.totvs.exception.CustomException;
+import com.br.totvs.exception.InvalidFieldException;
+import com.br.totvs.model.Cliente;
+import com.br.totvs.model.EntityChange;
+import com.br.totvs.model.TelefoneCliente;
+import com.br.totvs.repository.ClienteRepository;
+import com.br.totvs.repository.projection.ClienteConflito;
+import com.br.totvs.repository.projection.TelefoneNumero;
+import com.br.totvs.service.batch.BatchError;
+import com.br.totvs.service.batch.BatchResult;
+import com.br.totvs.service.cache.EntityCacheManager;
+import com.br.totvs.service.cache.Versioned;
+import com.br.totvs.service.change.ChangeFeed;
+import com.br.totvs.service.change.ChangePage;
+import com.br.totvs.service.index.ClienteUniquenessIndex;
+import com.br.totvs.service.message.MessageService;
+import com.br.totvs.service.metrics.EntityMetrics;
+import com.br.totvs.service.page.KeysetPage;
+import com.br.totvs.util.CursorUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ClienteServiceTest {
+
+    @Mock
+    private TelefoneClienteService telefoneClienteService;
+
+    @Mock
+    private ClienteRepository repository;
+
+    @Mock
+    private MessageService messageService;
+
+    @Mock
+    private ClienteUniquenessIndex uniquenessIndex;
+
+    @InjectMocks
+    private ClienteService clienteService;
+
+
+    @Test
+    public void testSave() {
+        Cliente cliente = Cliente.builder().id(1l).nome("Guilherme Teste 1").build();
+        when(repository.save(cliente)).thenReturn(cliente);
+
+        Cliente result = clienteService.save(cliente);
+        assertEquals(cliente, result);
+        verify(repository).save(cliente);
+    }
+
+    @Test
+    public void testSaveRegistraTempoDasFases() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        clienteService.setEntityMetrics(new EntityMetrics(meterRegistry));
+        Cliente cliente = Cliente.builder().id(1l).nome("Guilherme Teste 1").build();
+        when(repository.save(cliente)).thenReturn(cliente);
+
+        clienteService.save(cliente);
+
+        assertEquals(1, meterRegistry.get("entity.phase").tag("entity", "Cliente").tag("phase", "validate").timer().count());
+        assertEquals(1, meterRegistry.get("entity.phase").tag("entity", "Cliente").tag("phase", "persist").timer().count());
+    }
+
+    @Test
+    public void testUpdate() throws InvalidFieldException {
+        Cliente cliente = Cliente.builder().id(1l).nome("Guilherme Teste 2").build();
+        when(repository.findById(1l)).thenReturn(Optional.of(Cliente.builder().id(1l).versao(3l).build()));
+        when(repository.save(any(Cliente.class))).thenReturn(cliente);
+        Cliente result = clienteService.update(cliente);
+        assertEquals(cliente, result);
+        assertEquals(3l, cliente.getVersao());
+        verify(repository).save(cliente);
+        verify(repository, never()).findVersaoById(any());
+        verify(repository, never()).existsById(any());
+    }
+
+    @Test
+    public void testUpdateComVersaoEsperadaNaoConsultaAVersao() {
+        Cliente cliente = Cliente.builder().id(1l).nome("Guilherme Teste 2").build();
+        when(repository.findById(1l)).thenReturn(Optional.of(Cliente.builder().id(1l).versao(5l).build()));
+        when(repository.save(any(Cliente.class))).thenReturn(cliente);
+
+        clienteService.update(cliente, 5l);
+
+        assertEquals(5l, cliente.getVersao());
+        verify(repository, never()).findVersaoById(any());
+    }
+
+    @Test
+    public void testUpdateComVersaoDiferente() {
+        Cliente cliente = Cliente.builder().id(1l).nome("Guilherme Teste 2").build();
+        when(repository.findById(1l)).thenReturn(Optional.of(Cliente.builder().id(1l).versao(6l).build()));
+
+        CustomException thrown = assertThrows(CustomException.class, () -> clienteService.update(cliente, 5l));
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, thrown.getErrorCode());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    public void testUpdateNaoEncontrado() {
+        Cliente cliente = Cliente.builder().id(1l).nome("Guilherme Teste 2").build();
+        when(repository.findById(1l)).thenReturn(Optional.empty());
+
+        CustomException thrown = assertThrows(CustomException.class, () -> clienteService.update(cliente));
+
+        assertEquals(HttpStatus.NOT_FOUND, thrown.getErrorCode());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    public void testDeleteComVersaoDiferente() {
+        Cliente cliente = Cliente.builder().id(1l).nome("Guilherme Teste 2").versao(4l).build();
+        when(repository.findById(1l)).thenReturn(Optional.of(cliente));
+
+        CustomException thrown = assertThrows(CustomException.class, () -> clienteService.delete(1l, 3l));
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, thrown.getErrorCode());
+        verify(repository, never()).delete(any(Cliente.class));
+    }
+
+    @Test
+    public void testFindVersionUsaLeituraEmCache() {
+        MockEnvironment environment = new MockEnvironment().withProperty("app.cache.cliente.enabled", "true");
+        clienteService.setEntityCacheManager(new EntityCacheManager(environment, new SimpleMeterRegistry()));
+        when(repository.findVersaoById(2l)).thenReturn(Optional.of(7l));
+
+        clienteService.findVersioned(1l, id -> new Versioned<>("Cliente 1", 2l));
+
+        assertEquals(2l, clienteService.findVersion(1l));
+        assertEquals(7l, clienteService.findVersion(2l));
+        verify(repository, never()).findVersaoById(1l);
+    }
+
+    @Test
+    public void testDelete() {
+        clienteService.setEntityManager(entityManagerComExclusoes(1));
+        when(repository.findTelefoneIdsByClienteIdIn(List.of(1l))).thenReturn(List.of(10l, 11l));
+
+        clienteService.delete(1L);
+
+        verify(repository).deleteTelefonesByClienteIdIn(List.of(1l));
+        verify(uniquenessIndex).removeClientes(List.of(1l), List.of(10l, 11l));
+        verify(repository, never()).existsById(any());
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    public void testDeleteNaoEncontrado() {
+        clienteService.setEntityManager(entityManagerComExclusoes(0));
+        when(messageService.getMessage("error.objectNotFound", "Cliente", 1L)).thenReturn("Cliente com id 1 não encontrado");
+
+        CustomException thrown = assertThrows(CustomException.class, () -> clienteService.delete(1L));
+
+        assertEquals(HttpStatus.NOT_FOUND, thrown.getErrorCode());
+        assertEquals("Cliente com id 1 não encontrado", thrown.getMessage());
+        verify(repository, never()).existsById(any());
+    }
+
+    private static EntityManager entityManagerComExclusoes(int linhas) {
+        EntityManager entityManager = mock(EntityManager.class, RETURNS_DEEP_STUBS);
+        when(entityManager.createQuery(anyString()).setParameter(eq("ids"), any()).executeUpdate()).thenReturn(linhas);
+        return entityManager;
+    }
+
+    @Test
+    public void testFindById() {
+        Cliente cliente = new Cliente();
+        when(repository.findById(any())).thenReturn(Optional.of(cliente));
+        Optional<Cliente> result = clienteService.findById(1L);
+        assertEquals(Optional.of(cliente), result);
+        verify(repository, never()).existsById(any());
+    }
+
+    @Test
+    public void testFindByIdNaoEncontrado() {
+        when(repository.findById(any())).thenReturn(Optional.empty());
+        when(messageService.getMessage("error.objectNotFound", "Cliente", 1L)).thenReturn("Cliente com id 1 não encontrado");
+
+        CustomException thrown = assertThrows(CustomException.class, () -> clienteService.findById(1L));
+
+        assertEquals(HttpStatus.NOT_FOUND, thrown.getErrorCode());
+        assertEquals("Cliente com id 1 não encontrado", thrown.getMessage());
+    }
+
+    @Test
+    public void testFindChangesRetornaSomenteAAlteracaoMaisRecenteDeCadaCliente() {
+        ChangeFeed changeFeed = mock(ChangeFeed.class);
+        clienteService.setChangeFeed(changeFeed);
+        when(changeFeed.read(Cliente.class, 4l, 10)).thenReturn(List.of(
+                alteracao(5l, "1", EntityChange.Type.UPSERT),
+                alteracao(6l, "2", EntityChange.Type.UPSERT),
+                alteracao(7l, "1", EntityChange.Type.DELETE)));
+
+        ChangePage<Long> page = clienteService.findChanges(CursorUtil.encode(4l), 10);
+
+        assertEquals(2, page.changes().size());
+        assertEquals(2l, page.changes().get(0).id());
+        assertEquals(EntityChange.Type.UPSERT, page.changes().get(0).type());
+        assertEquals(1l, page.changes().get(1).id());
+        assertEquals(EntityChange.Type.DELETE, page.changes().get(1).type());
+        assertEquals(CursorUtil.encode(7l), page.changes().get(1).token());
+        assertEquals(CursorUtil.encode(7l), page.nextToken());
+    }
+
+    @Test
+    public void testFindChangesSemAlteracoesMantemOToken() {
+        ChangeFeed changeFeed = mock(ChangeFeed.class);
+        clienteService.setChangeFeed(changeFeed);
+        when(changeFeed.read(Cliente.class, 0l, 10)).thenReturn(List.of());
+
+        ChangePage<Long> page = clienteService.findChanges(null, 10);
+
+        assertTrue(page.changes().isEmpty());
+        assertEquals(CursorUtil.encode(0l), page.nextToken());
+    }
+
+    @Test
+    public void testFindChangesTokenInvalido() {
+        when(messageService.getMessage("error.invalidChangeToken")).thenReturn("O token de alterações é inválido.");
+
+        InvalidFieldException thrown = assertThrows(InvalidFieldException.class, () -> clienteService.findChanges("abc", 10));
+
+        assertEquals(HttpStatus.BAD_REQUEST, thrown.getErrorCode());
+    }
+
+    private static EntityChange alteracao(long sequencia, String id, EntityChange.Type tipo) {
+        return EntityChange.builder().sequencia(sequencia).entidade("Cliente").idEntidade(id).tipo(tipo).build();
+    }
+
+    @Test
+    public void testFindLinhasByIdNaoEncontrado() {
+        when(repository.findLinhasById(1L)).thenReturn(List.of());
+        when(messageService.getMessage("error.objectNotFound", "Cliente", 1L)).thenReturn("Cliente com id 1 não encontrado");
+
+        CustomException thrown = assertThrows(CustomException.class, () -> clienteService.findLinhasById(1L));
+
+        assertEquals(HttpStatus.NOT_FOUND, thrown.getErrorCode());
+    }
+
+    @Test
+    public void testFindVersionedUsaCacheEInvalidaNaAtualizacao() {
+        MockEnvironment environment = new MockEnvironment().withProperty("app.cache.cliente.enabled", "true");
+        clienteService.setEntityCacheManager(new EntityCacheManager(environment, new SimpleMeterRegistry()));
+        Cliente cliente = Cliente.builder().id(1l).nome("Guilherme Teste 2").build();
+        when(repository.findById(1l)).thenReturn(Optional.of(cliente));
+        when(repository.save(cliente)).thenReturn(cliente);
+        AtomicInteger carregamentos = new AtomicInteger();
+        Function<Long, Versioned<String>> carregador = id -> {
+            carregamentos.incrementAndGet();
+            return new Versioned<>(clienteService.findById(id).orElseThrow().getNome(), null);
+        };
+
+        Versioned<String> lido = clienteService.findVersioned(1l, carregador);
+        assertSame(lido, clienteService.findVersioned(1l, carregador));
+        assertEquals(1, carregamentos.get());
+
+        // o cache guarda a leitura, não a entidade: alterar a entidade não altera o que as leituras recebem,
+        // e a atualização remove a leitura do cache
+        cliente.setNome("Guilherme Teste 2 alterado");
+        assertEquals("Guilherme Teste 2", clienteService.findVersioned(1l, carregador).value());
+        clienteService.update(cliente);
+        assertEquals("Guilherme Teste 2 alterado", clienteService.findVersioned(1l, carregador).value());
+        assertEquals(2, carregamentos.get());
+    }
+
+    @Test
+    public void testFindByIdNaoPassaPeloCache() {
+        MockEnvironment environment = new MockEnvironment().withProperty("app.cache.cliente.enabled", "true");
+        clienteService.setEntityCacheManager(new EntityCacheManager(environment, new SimpleMeterRegistry()));
+        when(repository.findById(1l)).thenReturn(Optional.of(Cliente.builder().id(1l).build()));
+
+        clienteService.findById(1l);
+        clienteService.findById(1l);
+
+        verify(repository, times(2)).findById(1l);
+    }
+
+    @Test
+    public void testFindAll() {
+        Cliente cliente = new Cliente();
+        when(repository.findAll()).thenReturn(Arrays.asList(cliente));
+        assertEquals(Arrays.asList(cliente), clienteService.findAll());
+    }
+
+    @Test
+    public void testSaveAllReportaErrosPorItem() {
+        Cliente valido = Cliente.builder().nome("Guilherme Teste 1").build();
+        Cliente invalido = Cliente.builder().nome("Curto").build();
+        when(messageService.getMessage("error.invalidName.lengh")).thenReturn("O nome do cliente deve ter mais de 10 caracteres");
+        when(repository.saveAll(Arrays.asList(valido))).thenReturn(Arrays.asList(valido));
+
+        BatchResult<Cliente> result = clienteService.saveAll(Arrays.asList(invalido, valido));
+
+        assertEquals(Arrays.asList(valido), result.saved());
+        assertEquals(Arrays.asList(new BatchError(0, HttpStatus.BAD_REQUEST, "O nome do cliente deve ter mais de 10 caracteres")), result.errors());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    public void testSaveAllSemItensValidosNaoAcessaRepositorio() {
+        Cliente invalido = Cliente.builder().nome("").build();
+        when(messageService.getMessage("error.invalidName")).thenReturn("O nome está vazio");
+
+        BatchResult<Cliente> result = clienteService.saveAll(Arrays.asList(invalido));
+
+        assertTrue(result.saved().isEmpty());
+        assertEquals(1, result.errors().size());
+        verify(repository, never()).saveAll(any());
+    }
+
+    @Test
+    public void testFindPageComProximaPagina() {
+        Cliente cliente1 = Cliente.builder().id(1l).build();
+        Cliente cliente2 = Cliente.builder().id(2l).build();
+        Cliente cliente3 = Cliente.builder().id(3l).build();
+        when(repository.findAllByOrderByIdAsc(Limit.of(3))).thenReturn(Arrays.asList(cliente1, cliente2, cliente3));
+
+        KeysetPage<Cliente> page = clienteService.findPage(null, 2);
+
+        assertEquals(Arrays.asList(cliente1, cliente2), page.content());
+        assertEquals(CursorUtil.encode(2l), page.nextCursor());
+    }
+
+    @Test
+    public void testFindPageUltimaPagina() {
+        Cliente cliente3 = Cliente.builder().id(3l).build();
+        when(repository.findByIdGreaterThanOrderByIdAsc(2l, Limit.of(3))).thenReturn(Arrays.asList(cliente3));
+
+        KeysetPage<Cliente> page = clienteService.findPage(CursorUtil.encode(2l), 2);
+
+        assertEquals(Arrays.asList(cliente3), page.content());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    public void testFindPageComCursorInvalido() {
+        when(messageService.getMessage("error.invalidCursor")).thenReturn("O cursor de paginação é inválido.");
+
+        InvalidFieldException exception = assertThrows(InvalidFieldException.class, () -> clienteService.findPage("!!!", 2));
+
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getErrorCode());
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    public void testarValidacaoAntesDeSalvarSemNomeNull() {
+        Cliente cliente = new Cliente();
+        when(messageService.getMessage("error.invalidName")).thenReturn("O nome está vazio");
+
+        InvalidFieldException exception = assertThrows(InvalidFieldException.class, () -> clienteService.validateNome(cliente));
+
+        assertEquals("O nome está vazio", exception.getMessage());
+    }
+
+    @Test
+    public void testarValidacaoAntesDeSalvarSemNomeEmpty() {
+        Cliente cliente = Cliente.builder().nome("").build();
+        when(messageService.getMessage("error.invalidName")).thenReturn("O nome está vazio");
+
+        InvalidFieldException exception = assertThrows(InvalidFieldException.class, () -> clienteService.validateNome(cliente));
+
+        assertEquals("O nome está vazio", exception.getMessage());
+    }
+
+    @Test
+    public void testarValidacaoAntesDeSalvarComNomeInvalidoLength() {
+        Cliente cliente = new Cliente();
+        cliente.setNome("Test");
+
+        when(messageService.getMessage("error.invalidName.lengh")).thenReturn("O nome do cliente deve ter mais de 10 caracteres");
+
+        InvalidFieldException exception = assertThrows(InvalidFieldException.class, () -> clienteService.validateNome(cliente));
+
+        assertEquals("O nome do cliente deve ter mais de 10 caracteres", exception.getMessage());
+    }
+
+    @Test
+    public void testarValidacaoDoNomeComNomeDuplicado() {
+        Cliente cliente = Cliente.builder().id(1l).nome("Guilherme Teste 2").build();
+
+        when(repository.findConflitos(cliente.getNome(), List.of())).thenReturn(Arrays.asList(new ClienteConflito(2l, "Guilherme Teste 2", null)));
+        when(messageService.getMessage("error.duplicateName")).thenReturn("Já existe um cliente com o mesmo nome");
+
+        InvalidFieldException exception = assertThrows(InvalidFieldException.class, () -> clienteService.validateDuplicados(cliente, List.of()));
+
+        assertEquals(HttpStatus.CONFLICT, exception.getErrorCode());
+        assertEquals("Já existe um cliente com o mesmo nome", exception.getMessage());
+    }
+
+    @Test
+    void testarValidacaoTelefonesComFormatoTelefoneInvalido() {
+        TelefoneCliente telefoneInvalido = TelefoneCliente.builder().numero("123568").build();
+        Cliente cliente = Cliente.builder().id(1l).nome("Guilherme Teste").telefoneClienteList(Arrays.asList(telefoneInvalido)).build();
+
+        when(messageService.getMessage("error.invalidPhone.format")).thenReturn("Formato de telefone inválido.");
+
+        InvalidFieldException exception = assertThrows(InvalidFieldException.class, () -> clienteService.validateTelefones(cliente));
+
+        assertEquals("Formato de telefone inválido.", exception.getMessage());
+    }
+
+    @Test
+    void testarValidacaoTelefonesComTelefoneDuplicado() {
+        TelefoneCliente telefone = TelefoneCliente.builder().numero("62990909090").build();
+        Cliente cliente = Cliente.builder().id(1l).nome("Guilherme Teste").telefoneClienteList(Arrays.asList(telefone)).build();
+        List<Long> numeros = clienteService.validateTelefones(cliente);
+
+        when(repository.findConflitos("Guilherme Teste", numeros)).thenReturn(Arrays.asList(new ClienteConflito(2l, null, 62990909090l)));
+        when(messageService.getMessage("error.duplicatePhones", "62990909090")).thenReturn("Os telefones 62990909090 já estão vinculados a outro cliente");
+
+        InvalidFieldException exception = assertThrows(InvalidFieldException.class, () -> clienteService.validateDuplicados(cliente, numeros));
+
+        assertEquals("Os telefones 62990909090 já estão vinculados a outro cliente", exception.getMessage());
+    }
+
+    @Test
+    void testarValidacaoDuplicadosReportaTodosOsTelefonesEmUmaConsulta() {
+        Cliente cliente = Cliente.builder().id(1l).nome("Guilherme Teste").build();
+        List<Long> numeros = Arrays.asList(62990909090l, 62990909091l, 62990909092l, 62990909092l);
+
+        when(repository.findConflitos("Guilherme Teste", numeros)).thenReturn(Arrays.asList(
+                new ClienteConflito(1l, "Guilherme Teste", null),
+                new ClienteConflito(2l, null, 62990909090l),
+                new ClienteConflito(3l, null, 62990909091l)));
+        when(messageService.getMessage("error.duplicatePhones", "62990909090, 62990909091, 62990909092")).thenReturn("Telefones duplicados");
+
+        InvalidFieldException exception = assertThrows(InvalidFieldException.class, () -> clienteService.validateDuplicados(cliente, numeros));
+
+        assertEquals("Telefones duplicados", exception.getMessage());
+        verify(repository, times(1)).findConflitos(any(), any());
+        verifyNoInteractions(telefoneClienteService);
+    }
+
+    @Test
+    void testarValidacaoDuplicadosRespondidaPeloIndice() {
+        Cliente cliente = Cliente.builder().nome("Guilherme Teste").build();
+        List<Long> numeros = Arrays.asList(62990909090l);
+        when(uniquenessIndex.isReady()).thenReturn(true);
+        when(uniquenessIndex.isFree(null, "Guilherme Teste", numeros)).thenReturn(true);
+
+        clienteService.validateDuplicados(cliente, numeros);
+
+        verify(repository, never()).findConflitos(any(), any());
+    }
+
+    @Test
+    void testarValidacaoDuplicadosConfirmaConflitoDoIndiceNoBanco() {
+        Cliente cliente = Cliente.builder().nome("Guilherme Teste").build();
+        List<Long> numeros = Arrays.asList(62990909090l);
+        when(uniquenessIndex.isReady()).thenReturn(true);
+        when(uniquenessIndex.isFree(null, "Guilherme Teste", numeros)).thenReturn(false);
+        when(repository.findConflitos("Guilherme Teste", numeros)).thenReturn(List.of());
+
+        clienteService.validateDuplicados(cliente, numeros);
+
+        verify(repository, times(1)).findConflitos("Guilherme Teste", numeros);
+    }
+
+    @Test
+    void testarValidacaoTelefonesCalculaChaveNumerica() {
+        TelefoneCliente telefone = TelefoneCliente.builder().numero("(62) 99090-9090").build();
+        Cliente cliente = Cliente.builder().id(1l).nome("Guilherme Teste").telefoneClienteList(Arrays.asList(telefone)).build();
+
+        List<Long> chaves = clienteService.validateTelefones(cliente);
+
+        assertEquals(List.of(62990909090l), chaves);
+        assertEquals(62990909090l, telefone.getNumeroChave());
+    }
+
+    @Test
+    void testarValidacaoTelefonesReaproveitaChaveCalculadaNoDTO() {
+        // a chave informada (calculada na criação do DTO) é usada sem ler o número novamente
+        TelefoneCliente telefone = TelefoneCliente.builder().numero("(62) 99090-9090").numeroChave(62990909091l).build();
+        Cliente cliente = Cliente.builder().id(1l).nome("Guilherme Teste").telefoneClienteList(Arrays.asList(telefone)).build();
+
+        List<Long> chaves = clienteService.validateTelefones(cliente);
+
+        assertEquals(List.of(62990909091l), chaves);
+        assertEquals("62990909091", telefone.getNumeroBusca());
+    }
+
+    @Test
+    void testPrepareForUpdateReaproveitaIdDoTelefoneExistente() {
+        TelefoneCliente existente = TelefoneCliente.builder().numero("62 99090-9090").numeroChave(62990909090l).build();
+        TelefoneCliente novo = TelefoneCliente.builder().numero("62990909091").numeroChave(62990909091l).build();
+        Cliente cliente = Cliente.builder().id(1l).nome("Guilherme Teste").telefoneClienteList(Arrays.asList(existente, novo)).build();
+        when(telefoneClienteService.findNumerosByClienteId(1l)).thenReturn(List.of(new TelefoneNumero(7l, 1l, 62990909090l)));
+
+        clienteService.prepareForUpdate(1l, cliente);
+
+        assertEquals(7l, existente.getId());
+        assertNull(novo.getId());
+    }
+
+    @Test
+    void testConfiguraReferenciasPaisAutoConfiguraPaiCorretamente() {
+        lenient().when(messageService.getMessage(anyString(), any())).thenReturn("Error message");
+
+        TelefoneCliente telefoneCliente = TelefoneCliente.builder().build();
+        Cliente cliente = Cliente.builder().id(1l).nome("Guilherme Teste").telefoneClienteList(Arrays.asList(telefoneCliente)).build();
+
+        clienteService.configParentReferencesAuto(cliente);
+
+        assertNotNull(telefoneCliente.getCliente(), "O EnderecoCliente deve ter uma referência para Cliente como seu pai.");
+        assertSame(cliente, telefoneCliente.getCliente(), "A referência ao objeto pai no EnderecoCliente não está correta.");
+
+        verify(messageService, never()).getMessage(eq("error.accessFieldFailure"), any());
+    }
+
+    @Test
+    void testGetIdRetornaIdDaEntidade() {
+        Cliente cliente = Cliente.builder().id(7l).build();
+        TelefoneCliente telefoneCliente = TelefoneCliente.builder().id(8l).build();
+
+        assertEquals(7l, (Long) clienteService.getId(cliente));
+        assertEquals(8l, (Long) clienteService.getId(telefoneCliente));
+        assertNull(clienteService.getId(null));
+    }
+
+    @Test
+    void testGetIdSemCampoId() {
+        when(messageService.getMessage("error.idFieldNotFound", String.class.getName())).thenReturn("Campo @Id não encontrado");
+
+        CustomException thrown = assertThrows(CustomException.class, () -> clienteService.getId("sem id"));
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, thrown.getErrorCode());
+        assertEquals("Campo @Id não encontrado", thrown.getMessage());
+    }
+
+    @Test
+    void testSalvarComDataIntegrityViolationException() {
+        Cliente cliente = Cliente.builder().id(1l).nome("Guilherme Teste").build();
+        when(repository.save(any(Cliente.class))).thenThrow(DataIntegrityViolationException.class);
+        when(messageService.getMessage("error.dataIntegrityViolation", Cliente.class.getSimpleName())).thenReturn("Violação de integridade de dados");
+
+        CustomException thrown = assertThrows(CustomException.class, () -> clienteService.salvar(cliente));
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, thrown.getErrorCode());
+        assertEquals("Violação de integridade de dados", thrown.getMessage());
+    }
+
+    @Test
+    void testSalvarComExceptionGenerica() {
+        Cliente cliente = Cliente.builder().id(1l).nome("Guilherme Teste").build();
+        RuntimeException exceptionSimulada = new RuntimeException("Erro inesperado");
+        when(repository.save(cliente)).thenThrow(exceptionSimulada);
+        when(messageService.getMessage("error.unexpectedError", new Object[]{exceptionSimulada.getMessage()}))
+                .thenReturn("Erro inesperado ao salvar a entidade");
+
+        CustomException thrown = assertThrows(CustomException.class, () -> clienteService.salvar(cliente));
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, thrown.getErrorCode());
+        assertEquals("Erro inesperado ao salvar a entidade", thrown.getMessage());
+    }
+}
@@ -0,0 +1,67 @@
+package com.br.totvs.service.cache;
+
+import com.br.totvs.model.Cliente;
+import com.br.totvs.model.TelefoneCliente;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntityCacheManagerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private EntityCacheManager cacheManager;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.cache.cliente.enabled", "true")
+                .withProperty("app.cache.cliente.maximum-size", "10")
+                .withProperty("app.cache.cliente.ttl", "1m");
+        cacheManager = new EntityCacheManager(environment, meterRegistry);
+    }
+
+    @Test
+    public void testEntidadeSemPropriedadeNaoUsaCache() {
+        EntityCache<Long, TelefoneCliente> cache = cacheManager.cacheFor(TelefoneCliente.class);
+        AtomicInteger carregamentos = new AtomicInteger();
+
+        cache.get(1l, id -> { carregamentos.incrementAndGet(); return new TelefoneCliente(); });
+        cache.get(1l, id -> { carregamentos.incrementAndGet(); return new TelefoneCliente(); });
+
+        assertFalse(cache.isEnabled());
+        assertEquals(2, carregamentos.get());
+    }
+
+    @Test
+    public void testCacheGuardaEntidadeAteSerInvalidada() {
+        EntityCache<Long, Cliente> cache = cacheManager.cacheFor(Cliente.class);
+        AtomicInteger carregamentos = new AtomicInteger();
+
+        Cliente primeiro = cache.get(1l, id -> { carregamentos.incrementAndGet(); return new Cliente(); });
+        assertSame(primeiro, cache.get(1l, id -> { carregamentos.incrementAndGet(); return new Cliente(); }));
+        cache.evict(1l);
+        assertNotSame(primeiro, cache.get(1l, id -> { carregamentos.incrementAndGet(); return new Cliente(); }));
+
+        assertEquals(2, carregamentos.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "cliente").tag("result", "hit").functionCounter().count());
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "cliente").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    public void testEntidadeInexistenteNaoEGuardada() {
+        EntityCache<Long, Cliente> cache = cacheManager.cacheFor(Cliente.class);
+        AtomicInteger carregamentos = new AtomicInteger();
+
+        assertNull(cache.get(1l, id -> { carregamentos.incrementAndGet(); return null; }));
+        assertNull(cache.get(1l, id -> { carregamentos.incrementAndGet(); return null; }));
+
+        assertEquals(2, carregamentos.get());
+    }
+}
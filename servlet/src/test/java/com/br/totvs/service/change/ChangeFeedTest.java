@@ -0,0 +1,75 @@
+package com.br.totvs.service.change;
+
+import com.br.totvs.model.Cliente;
+import com.br.totvs.model.EntityChange;
+import com.br.totvs.repository.EntityChangeRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ChangeFeedTest {
+
+    private EntityChangeRepository repository;
+    private EntityManager entityManager;
+    private ApplicationEventPublisher eventPublisher;
+    private ChangeFeed changeFeed;
+
+    @BeforeEach
+    public void setUp() {
+        repository = mock(EntityChangeRepository.class);
+        entityManager = mock(EntityManager.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        when(repository.findMaxSequencia()).thenReturn(Optional.of(10l));
+        changeFeed = new ChangeFeed(repository, entityManager, eventPublisher);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    public void testSequenciaContinuaDoLogGravado() {
+        changeFeed.record(Cliente.class, 1l, EntityChange.Type.UPSERT);
+
+        verify(entityManager).persist(argThat(change -> change instanceof EntityChange entityChange
+                && entityChange.getSequencia() == 11l && "Cliente".equals(entityChange.getEntidade())
+                && "1".equals(entityChange.getIdEntidade()) && entityChange.getTipo() == EntityChange.Type.UPSERT));
+        verify(eventPublisher).publishEvent(new EntityChangeEvent(Cliente.class, 11l));
+    }
+
+    @Test
+    public void testLeituraNaoPassaDaMenorSequenciaPendente() {
+        changeFeed.record(Cliente.class, 1l, EntityChange.Type.UPSERT);
+        TransactionSynchronization primeira = TransactionSynchronizationManager.getSynchronizations().get(0);
+        changeFeed.record(Cliente.class, 2l, EntityChange.Type.DELETE);
+        TransactionSynchronization segunda = TransactionSynchronizationManager.getSynchronizations().get(1);
+
+        assertEquals(10l, changeFeed.committedSequence());
+        segunda.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(10l, changeFeed.committedSequence(), "a sequência 11 ainda não foi confirmada");
+        primeira.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertEquals(12l, changeFeed.committedSequence());
+    }
+
+    @Test
+    public void testLogDesabilitadoNaoRegistra() {
+        ChangeFeed.disabled().record(Cliente.class, 1l, EntityChange.Type.UPSERT);
+
+        assertTrue(TransactionSynchronizationManager.getSynchronizations().isEmpty());
+        assertEquals(List.of(), ChangeFeed.disabled().read(Cliente.class, 0, 10));
+        verify(entityManager, never()).persist(any());
+    }
+}
@@ -0,0 +1,88 @@
+package com.br.totvs.service.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AimdLimiterTest {
+
+    private static final long SEMPRE_RAPIDA = Long.MAX_VALUE;
+    private static final long SEMPRE_LENTA = 0;
+
+    @Test
+    public void testRejeitaAcimaDoLimiteSemAguardar() {
+        AimdLimiter limiter = new AimdLimiter(2, 1, 10, 0.5, SEMPRE_RAPIDA);
+
+        AimdLimiter.Permit primeira = limiter.tryAcquire();
+        AimdLimiter.Permit segunda = limiter.tryAcquire();
+
+        assertNotNull(primeira);
+        assertNotNull(segunda);
+        assertNull(limiter.tryAcquire());
+        assertEquals(2, limiter.getInflight());
+
+        primeira.release();
+        assertEquals(1, limiter.getInflight());
+        assertNotNull(limiter.tryAcquire());
+    }
+
+    @Test
+    public void testLimiteAumentaSomenteQuandoEstaEmUso() {
+        AimdLimiter limiter = new AimdLimiter(4, 1, 10, 0.5, SEMPRE_RAPIDA);
+
+        // uma requisição por vez não ocupa metade do limite, que não precisa crescer
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire().release(false);
+        }
+        assertEquals(4, limiter.getLimit());
+
+        // com o limite em uso, somente as requisições admitidas com ao menos metade ocupada aumentam o limite
+        for (int janela = 0; janela < 3; janela++) {
+            List<AimdLimiter.Permit> permits = acquireAll(limiter);
+            permits.forEach(permit -> permit.release(false));
+        }
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    public void testLimiteReduzUmaVezPorJanelaAteOMinimo() {
+        AimdLimiter limiter = new AimdLimiter(8, 2, 10, 0.5, SEMPRE_LENTA);
+
+        // as requisições iniciadas antes da redução estavam na mesma fila e reduzem o limite uma única vez
+        acquireAll(limiter).forEach(permit -> permit.release(false));
+        assertEquals(4, limiter.getLimit());
+
+        limiter.tryAcquire().release(false);
+        assertEquals(2, limiter.getLimit());
+
+        limiter.tryAcquire().release(false);
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    public void testFalhaReduzOLimiteMesmoComRespostaRapida() {
+        AimdLimiter limiter = new AimdLimiter(8, 1, 10, 0.5, SEMPRE_RAPIDA);
+
+        limiter.tryAcquire().release(true);
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    public void testLimitesInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(5, 0, 10, 0.5, SEMPRE_RAPIDA));
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(5, 10, 5, 0.5, SEMPRE_RAPIDA));
+        assertThrows(IllegalArgumentException.class, () -> new AimdLimiter(5, 1, 10, 1, SEMPRE_RAPIDA));
+    }
+
+    private static List<AimdLimiter.Permit> acquireAll(AimdLimiter limiter) {
+        List<AimdLimiter.Permit> permits = new ArrayList<>();
+        for (AimdLimiter.Permit permit = limiter.tryAcquire(); permit != null; permit = limiter.tryAcquire()) {
+            permits.add(permit);
+        }
+        return permits;
+    }
+}
@@ -0,0 +1,48 @@
+package com.br.totvs.service.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConnectionBulkheadTest {
+
+    @Test
+    public void testSemPermissaoNoTempoLimiteRetornaFalse() {
+        ConnectionBulkhead bulkhead = new ConnectionBulkhead(1, Duration.ofMillis(50).toNanos());
+
+        assertTrue(bulkhead.tryAcquire());
+        assertFalse(bulkhead.tryAcquire());
+
+        bulkhead.release();
+        assertTrue(bulkhead.tryAcquire());
+    }
+
+    @Test
+    public void testAguardaAPermissaoLiberada() throws Exception {
+        ConnectionBulkhead bulkhead = new ConnectionBulkhead(1, Duration.ofSeconds(5).toNanos());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertTrue(bulkhead.tryAcquire());
+            Future<Boolean> aguardando = executor.submit(bulkhead::tryAcquire);
+
+            Thread.sleep(100);
+            assertFalse(aguardando.isDone());
+            bulkhead.release();
+
+            assertTrue(aguardando.get());
+            assertEquals(0, bulkhead.getAvailablePermits());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testPermissoesInvalidas() {
+        assertThrows(IllegalArgumentException.class, () -> new ConnectionBulkhead(0, 0));
+    }
+}
@@ -0,0 +1,74 @@
+package com.br.totvs.service.index;
+
+import com.br.totvs.repository.projection.ClienteNome;
+import com.br.totvs.repository.projection.TelefoneNumero;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClienteUniquenessIndexTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ClienteUniquenessIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        index = new ClienteUniquenessIndex(meterRegistry);
+        index.load(List.of(new ClienteNome(1l, "Guilherme Teste 1")),
+                List.of(new TelefoneNumero(10l, 1l, 62990909090l)));
+    }
+
+    @Test
+    public void testIsFreeParaChavesLivresOuDoProprioCliente() {
+        assertTrue(index.isReady());
+        assertTrue(index.isFree(null, "Guilherme Teste 2", List.of(62990909091l)));
+        assertTrue(index.isFree(1l, "Guilherme Teste 1", List.of(62990909090l)));
+        assertFalse(index.isFree(2l, "Guilherme Teste 1", List.of()));
+        assertFalse(index.isFree(2l, "Guilherme Teste 2", List.of(62990909090l)));
+    }
+
+    @Test
+    public void testAtualizacaoLiberaChavesAnteriores() {
+        index.putCliente(1l, "Guilherme Teste 3");
+        index.putTelefone(new TelefoneNumero(10l, 1l, 62990909099l));
+
+        assertTrue(index.isFree(2l, "Guilherme Teste 1", List.of(62990909090l)));
+        assertFalse(index.isFree(2l, "Guilherme Teste 3", List.of()));
+        assertFalse(index.isFree(2l, "Guilherme Teste 4", List.of(62990909099l)));
+    }
+
+    @Test
+    public void testRemocaoLiberaChaves() {
+        index.removeTelefone(10l);
+        index.removeCliente(1l);
+
+        assertTrue(index.isFree(2l, "Guilherme Teste 1", List.of(62990909090l)));
+        assertEquals(0.0, meterRegistry.get("cliente.uniqueness.index.size").tag("key", "nome").gauge().value());
+    }
+
+    @Test
+    public void testRemocaoEmLoteLiberaChaves() {
+        index.putCliente(2l, "Guilherme Teste 2");
+        index.putTelefone(new TelefoneNumero(20l, 2l, 62990909092l));
+
+        index.removeClientes(List.of(1l, 2l), List.of(10l, 20l));
+
+        assertTrue(index.isFree(3l, "Guilherme Teste 1", List.of(62990909090l, 62990909092l)));
+        assertTrue(index.isFree(3l, "Guilherme Teste 2", List.of()));
+    }
+
+    @Test
+    public void testMetricasDeHitEMiss() {
+        index.isFree(null, "Guilherme Teste 1", List.of());
+        index.isFree(null, "Guilherme Teste 2", List.of(62990909091l));
+
+        assertEquals(1.0, meterRegistry.get("cliente.uniqueness.index.lookups").tag("result", "hit").counter().count());
+        assertEquals(2.0, meterRegistry.get("cliente.uniqueness.index.lookups").tag("result", "miss").counter().count());
+    }
+}
@@ -0,0 +1,24 @@
+package com.br.totvs.service.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SqlStatementCounterTest {
+
+    @Test
+    public void testContaComandosDaThreadEntreStartEStop() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SqlStatementCounter counter = new SqlStatementCounter(meterRegistry);
+
+        counter.inspect("select 1");
+        counter.start();
+        counter.inspect("select 2");
+        counter.inspect("select 3");
+
+        assertEquals(2, counter.stop());
+        assertEquals(0, counter.stop());
+        assertEquals(3.0, meterRegistry.get("sql.prepared.statements").counter().count());
+    }
+}
@@ -1,18 +0,0 @@
-package com.br.totvs.repository;
-
-import com.br.totvs.model.Cliente;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-
-import java.util.Optional;
-
-/**
- * Repositório para Cliente.
- *
- * @author guilherme-oliveria
- */
-@Repository
-public interface ClienteRepository extends JpaRepository<Cliente, Long> {
-    Optional<Cliente> findByNome(String nome);
-
-}